@@ -0,0 +1,173 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.posttag.domain.repository.PostTagRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 태그 조합 조회: PostTagIndex.query(비트맵) vs post_tag 자기 조인 JPQL
+// 같은 시드 데이터를 H2(MySQL 모드) 메모리 DB에 넣고, 색인도 운영과 같이 DB에서 rebuild로 만듦
+// 태그 인기도는 낮은 id로 치우치게 뽑음 (secondTag 2: 인기 태그끼리라 결과가 많음, 500: 드물어 자기 조인이 멀리까지 읽음)
+// H2라 자기 조인의 절대 수치는 MySQL과 다르므로 두 방식의 차이 규모를 보는 용도
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostTagIndexBenchmark {
+
+    private static final String ALL_SELF_JOIN_JPQL =
+            "SELECT pt1.post.postId FROM PostTag pt1 JOIN PostTag pt2 ON pt2.post = pt1.post " +
+                    "WHERE pt1.tag.id = :first AND pt2.tag.id = :second AND pt1.post.postId < :cursor " +
+                    "ORDER BY pt1.post.postId DESC";
+
+    private static final String ALL_NONE_SELF_JOIN_JPQL =
+            "SELECT pt1.post.postId FROM PostTag pt1 JOIN PostTag pt2 ON pt2.post = pt1.post " +
+                    "WHERE pt1.tag.id = :first AND pt2.tag.id = :second AND pt1.post.postId < :cursor " +
+                    "AND NOT EXISTS (SELECT 1 FROM PostTag pt3 WHERE pt3.post = pt1.post AND pt3.tag.id = :excluded) " +
+                    "ORDER BY pt1.post.postId DESC";
+
+    private static final int PAGE_SIZE = 20;
+    private static final long FIRST_TAG = 1L;
+    private static final long EXCLUDED_TAG = 3L;
+
+    @Param({"100000"})
+    private int postCount;
+
+    @Param({"1000"})
+    private int tagCount;
+
+    @Param({"2", "500"})
+    private long secondTag;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private PostTagIndex postTagIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:post-tag-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        // 벤치마크 jar에서는 드라이버 서비스 등록이 합쳐지지 않으므로 직접 지정
+        dataSource.setDriverClassName("org.h2.Driver");
+
+        // 운영과 같은 엔티티/네이밍으로 스키마 생성
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(
+                "com.likelion.likelionassignment07.member.domain",
+                "com.likelion.likelionassignment07.post.domain",
+                "com.likelion.likelionassignment07.tag.domain",
+                "com.likelion.likelionassignment07.posttag.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        seed(new JdbcTemplate(dataSource));
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        PostTagRepository postTagRepository = new JpaRepositoryFactory(entityManager)
+                .getRepository(PostTagRepository.class);
+
+        // 재구성만 사용하므로 스케줄러는 필요 없음
+        postTagIndex = new PostTagIndex(postTagRepository, null, 5000, 2000, 100, 10000, Duration.ofHours(1));
+        postTagIndex.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        factoryBean.destroy();
+    }
+
+    // 게시물마다 3~8개 태그 (낮은 id일수록 자주 달림)
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO member (member_id, name, age) VALUES (1, 'benchmark', 20)");
+
+        List<Object[]> tags = new ArrayList<>(tagCount);
+        for (long tagId = 1; tagId <= tagCount; tagId++) {
+            tags.add(new Object[]{tagId, "tag-" + tagId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tag (tag_id, name, post_count) VALUES (?, ?, 0)", tags);
+
+        List<Object[]> posts = new ArrayList<>(postCount);
+        List<Object[]> postTags = new ArrayList<>();
+        Random random = new Random(42);
+        long postTagId = 1;
+        for (long postId = 1; postId <= postCount; postId++) {
+            posts.add(new Object[]{postId, "title-" + postId, "contents-" + postId});
+
+            Set<Long> tagIds = new LinkedHashSet<>();
+            int size = 3 + random.nextInt(6);
+            while (tagIds.size() < size) {
+                double skewed = random.nextDouble() * random.nextDouble();
+                tagIds.add(1 + (long) (skewed * tagCount));
+            }
+            for (Long tagId : tagIds) {
+                postTags.add(new Object[]{postTagId++, postId, tagId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post (post_id, title, contents, member_id, tag_status, tag_attempts) " +
+                "VALUES (?, ?, ?, 1, 'COMPLETED', 0)", posts);
+        jdbcTemplate.batchUpdate("INSERT INTO post_tag (post_tag_id, post_id, tag_id) VALUES (?, ?, ?)", postTags);
+    }
+
+    @Benchmark
+    public List<Long> bitmapAll() {
+        return postTagIndex.query(List.of(FIRST_TAG, secondTag), List.of(), List.of(), Long.MAX_VALUE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> selfJoinAll() {
+        return entityManager.createQuery(ALL_SELF_JOIN_JPQL, Long.class)
+                .setParameter("first", FIRST_TAG)
+                .setParameter("second", secondTag)
+                .setParameter("cursor", Long.MAX_VALUE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    @Benchmark
+    public List<Long> bitmapAllNone() {
+        return postTagIndex.query(List.of(FIRST_TAG, secondTag), List.of(), List.of(EXCLUDED_TAG),
+                Long.MAX_VALUE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> selfJoinAllNone() {
+        return entityManager.createQuery(ALL_NONE_SELF_JOIN_JPQL, Long.class)
+                .setParameter("first", FIRST_TAG)
+                .setParameter("second", secondTag)
+                .setParameter("excluded", EXCLUDED_TAG)
+                .setParameter("cursor", Long.MAX_VALUE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+}
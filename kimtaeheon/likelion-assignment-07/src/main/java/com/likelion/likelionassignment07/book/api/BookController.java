@@ -5,6 +5,7 @@ import com.likelion.likelionassignment07.book.api.dto.response.BookListResponseD
 import com.likelion.likelionassignment07.book.application.BookService;
 import com.likelion.likelionassignment07.common.error.SuccessCode;
 import com.likelion.likelionassignment07.common.template.ApiResTemplate;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,9 +19,11 @@ public class BookController {
 
     private final BookService bookService;
 
+    // 도서 목록 조회 (?cursor=이전 응답의 nextCursor&size=20)
     @GetMapping("/all")
-    public ApiResTemplate<BookListResponseDto> getAllBooks() {
-        BookListResponseDto bookListResponseDto = bookService.fetchAllRecommendedBooks();
+    public ApiResTemplate<BookListResponseDto> getAllBooks(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                           @RequestParam(value = "size", required = false) Integer size) {
+        BookListResponseDto bookListResponseDto = bookService.fetchAllRecommendedBooks(CursorPageRequest.of(cursor, size));
         return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, bookListResponseDto);
     }
 
@@ -1,7 +1,17 @@
 package com.likelion.likelionassignment07.book.api.dto.response;
 
+import lombok.Builder;
 import java.util.List;
 
+@Builder
 public record BookListResponseDto(
-        List<BookResponseDto> books
-) {}
+        List<BookResponseDto> books,
+        Long nextCursor // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지거나 페이지 조회가 아니면 null
+) {
+    public static BookListResponseDto from(List<BookResponseDto> books, Long nextCursor) {
+        return BookListResponseDto.builder()
+                .books(books)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.likelion.likelionassignment07.book.application;
+
+import com.likelion.likelionassignment07.book.api.dto.response.BookListResponseDto;
+import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 메모리에 올려둔 도서 카탈로그와 alternativeTitle 역색인
+// alternativeTitle의 2-gram마다 도서 위치 목록을 두고, 태그의 2-gram 목록을 교집합하여 후보를 찾은 뒤 contains로 확인
+// (기존 String.contains 필터와 같은 결과를 선형 탐색 없이 반환)
+@Component
+public class BookCatalog {
+
+    private static final int GRAM_SIZE = 2;
+
+    // 갱신 시 스냅샷 전체를 교체하므로 읽기 쪽은 잠금 없이 사용
+    private volatile Snapshot snapshot = Snapshot.of(List.of(), List.of());
+
+    public boolean isEmpty() {
+        return snapshot.books().isEmpty();
+    }
+
+    // ids는 books와 같은 순서의 book_id (오름차순)
+    public void replace(List<Long> ids, List<BookResponseDto> books) {
+        this.snapshot = Snapshot.of(ids, books);
+    }
+
+    // book_id가 cursor보다 큰 도서부터 size개 (DB의 키셋 페이지와 같은 기준, 이진 탐색으로 시작 위치를 찾음)
+    public BookListResponseDto findPage(long cursor, int size) {
+        Snapshot current = snapshot;
+        long[] ids = current.ids();
+        int found = Arrays.binarySearch(ids, cursor);
+        int from = found >= 0 ? found + 1 : -found - 1;
+        int to = Math.min(from + size, ids.length);
+
+        Long nextCursor = to < ids.length ? ids[to - 1] : null;
+        return BookListResponseDto.from(List.copyOf(current.books().subList(from, to)), nextCursor);
+    }
+
+    // alternativeTitle에 태그 중 하나라도 포함된 도서를 카탈로그 순서대로 최대 limit개 반환
+    public List<BookResponseDto> findByAlternativeTitle(List<String> tags, int limit) {
+        Snapshot current = snapshot;
+        Set<Integer> matched = new TreeSet<>();
+        for (String tag : new LinkedHashSet<>(tags)) {
+            if (tag == null || tag.isEmpty()) {
+                continue;
+            }
+            matched.addAll(current.search(tag));
+        }
+
+        return matched.stream()
+                .limit(limit)
+                .map(current.books()::get)
+                .toList();
+    }
+
+    private record Snapshot(
+            long[] ids,
+            List<BookResponseDto> books,
+            String[] alternativeTitles,
+            Map<String, int[]> postings
+    ) {
+
+        private static Snapshot of(List<Long> ids, List<BookResponseDto> books) {
+            if (ids.size() != books.size()) {
+                throw new IllegalArgumentException("도서 ID 수와 도서 수가 다릅니다.");
+            }
+            List<BookResponseDto> copied = List.copyOf(books);
+            String[] alternativeTitles = new String[copied.size()];
+            Map<String, List<Integer>> building = new HashMap<>();
+
+            for (int i = 0; i < copied.size(); i++) {
+                String alternativeTitle = copied.get(i).alternativeTitle();
+                alternativeTitles[i] = alternativeTitle == null ? "" : alternativeTitle;
+                for (String gram : grams(alternativeTitles[i])) {
+                    building.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+                }
+            }
+
+            // 도서 위치는 오름차순으로 추가되므로 정렬된 int 배열로 보관
+            Map<String, int[]> postings = new HashMap<>(building.size() * 2);
+            building.forEach((gram, positions) ->
+                    postings.put(gram, positions.stream().mapToInt(Integer::intValue).toArray()));
+            return new Snapshot(ids.stream().mapToLong(Long::longValue).toArray(), copied, alternativeTitles, postings);
+        }
+
+        private List<Integer> search(String tag) {
+            // 한 글자 태그는 2-gram으로 찾을 수 없으므로 전체를 확인
+            if (tag.length() < GRAM_SIZE) {
+                List<Integer> result = new ArrayList<>();
+                for (int i = 0; i < alternativeTitles.length; i++) {
+                    if (alternativeTitles[i].contains(tag)) {
+                        result.add(i);
+                    }
+                }
+                return result;
+            }
+
+            List<int[]> lists = new ArrayList<>();
+            for (String gram : grams(tag)) {
+                int[] positions = postings.get(gram);
+                if (positions == null) {
+                    return List.of();
+                }
+                lists.add(positions);
+            }
+
+            // 가장 짧은 목록부터 교집합
+            lists.sort(Comparator.comparingInt(positions -> positions.length));
+            int[] candidates = lists.get(0);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+
+            // 2-gram이 모두 있어도 연속으로 이어지지 않을 수 있으므로 실제 포함 여부 확인
+            List<Integer> result = new ArrayList<>(candidates.length);
+            for (int position : candidates) {
+                if (alternativeTitles[position].contains(tag)) {
+                    result.add(position);
+                }
+            }
+            return result;
+        }
+
+        private static Set<String> grams(String text) {
+            Set<String> grams = new LinkedHashSet<>();
+            for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM_SIZE));
+            }
+            return grams;
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    result[size++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+}
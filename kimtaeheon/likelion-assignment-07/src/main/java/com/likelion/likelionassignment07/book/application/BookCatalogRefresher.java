@@ -0,0 +1,81 @@
+package com.likelion.likelionassignment07.book.application;
+
+import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
+import com.likelion.likelionassignment07.common.client.BookSearchClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 외부 도서 API의 전체 페이지를 주기적으로 수집하여 카탈로그를 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookCatalogRefresher {
+
+    private final BookSearchClient bookSearchClient;
+    private final BookCatalogService bookCatalogService;
+    private final BookCatalog bookCatalog;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    @Value("${book-api.catalogue.page-size}")
+    private int pageSize;
+
+    @Value("${book-api.catalogue.max-pages}")
+    private int maxPages;
+
+    // 시작 시 저장된 카탈로그를 불러오고, 비어 있으면 백그라운드에서 바로 수집
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        bookCatalogService.loadCatalogue();
+        if (bookCatalog.isEmpty()) {
+            taskScheduler.schedule(this::refresh, Instant.now());
+        }
+    }
+
+    @Scheduled(cron = "${book-api.catalogue.refresh-cron}")
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            List<BookResponseDto> books = crawl();
+            if (books.isEmpty()) {
+                log.warn("수집된 도서가 없어 기존 카탈로그를 유지합니다.");
+                return;
+            }
+            bookCatalogService.replaceCatalogue(books);
+            log.info("도서 카탈로그 갱신 완료: {}권", books.size());
+        } catch (RuntimeException e) {
+            // 수집 도중 실패하면 기존 카탈로그로 계속 서비스
+            log.error("도서 카탈로그 갱신 실패", e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private List<BookResponseDto> crawl() {
+        List<BookResponseDto> books = new ArrayList<>();
+        for (int pageNo = 1; pageNo <= maxPages; pageNo++) {
+            int before = books.size();
+            int totalCount = bookSearchClient.fetchBookPage(pageNo, pageSize, books::add);
+
+            if (books.size() == before || books.size() >= totalCount) {
+                break;
+            }
+        }
+        return books;
+    }
+}
@@ -0,0 +1,74 @@
+package com.likelion.likelionassignment07.book.application;
+
+import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
+import com.likelion.likelionassignment07.book.domain.Book;
+import com.likelion.likelionassignment07.book.domain.repository.BookCatalogEntry;
+import com.likelion.likelionassignment07.book.domain.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 도서 카탈로그의 DB 저장과 메모리 카탈로그 교체
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookCatalogService {
+
+    // 한 번에 영속성 컨텍스트에 올려두는 도서 수
+    private static final int SAVE_CHUNK_SIZE = 1000;
+    // 카탈로그를 불러올 때 한 번에 읽는 도서 수
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final BookRepository bookRepository;
+    private final BookCatalog bookCatalog;
+    private final EntityManager entityManager;
+
+    // 저장된 카탈로그를 메모리로 불러옴 (재시작 시 외부 API 없이 바로 서비스하기 위함)
+    // id 키셋으로 나눠 필요한 컬럼만 읽으므로 전체 Book 엔티티를 한 영속성 컨텍스트에 올리지 않음
+    public void loadCatalogue() {
+        List<Long> ids = new ArrayList<>();
+        List<BookResponseDto> books = new ArrayList<>();
+        long cursor = 0L;
+        List<BookCatalogEntry> entries;
+        do {
+            entries = bookRepository.findCatalogueEntries(cursor, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (BookCatalogEntry entry : entries) {
+                ids.add(entry.id());
+                books.add(entry.toDto());
+                cursor = entry.id();
+            }
+        } while (entries.size() == LOAD_BATCH_SIZE);
+        bookCatalog.replace(ids, books);
+    }
+
+    // 새로 수집한 카탈로그로 DB와 메모리를 함께 교체 (메모리는 커밋된 뒤에만 교체하여 롤백 시 DB와 어긋나지 않음)
+    @Transactional
+    public void replaceCatalogue(List<BookResponseDto> books) {
+        bookRepository.deleteAllInBatch();
+
+        // 전체를 한 번에 영속화하면 메모리를 많이 쓰므로 청크 단위로 flush 후 비움
+        // 시퀀스로 받은 ID는 저장 순서대로 증가하므로 카탈로그의 ID도 오름차순
+        List<Long> ids = new ArrayList<>(books.size());
+        for (int from = 0; from < books.size(); from += SAVE_CHUNK_SIZE) {
+            List<BookResponseDto> chunk = books.subList(from, Math.min(from + SAVE_CHUNK_SIZE, books.size()));
+            bookRepository.saveAll(chunk.stream().map(Book::new).toList())
+                    .forEach(book -> ids.add(book.getId()));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bookCatalog.replace(ids, books);
+            }
+        });
+    }
+}
@@ -3,41 +3,41 @@ package com.likelion.likelionassignment07.book.application;
 
 import com.likelion.likelionassignment07.book.api.dto.response.BookListResponseDto;
 import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
-import com.likelion.likelionassignment07.common.client.BookSearchClient;
-import com.likelion.likelionassignment07.common.client.TagRecommendationClient;
 import com.likelion.likelionassignment07.common.error.ErrorCode;
 import com.likelion.likelionassignment07.common.exception.BusinessException;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
 import com.likelion.likelionassignment07.post.domain.Post;
 import com.likelion.likelionassignment07.post.domain.repository.PostRepository;
+import com.likelion.likelionassignment07.tag.application.TagRecommendationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookService {
 
     private final PostRepository postRepository;
-    private final TagRecommendationClient tagClient;
-    private final BookSearchClient bookSearchClient;
+    private final TagRecommendationService tagRecommendationService;
+    private final BookCatalog bookCatalog;
 
-    // 전체 도서 목록 조회
-    public BookListResponseDto fetchAllRecommendedBooks() {
-        List<BookResponseDto> books = bookSearchClient.fetchAllBooks();
-        return new BookListResponseDto(books);
+    // 도서 목록 조회 (주기적으로 수집해 둔 카탈로그에서 book_id 순, 커서 기반)
+    public BookListResponseDto fetchAllRecommendedBooks(CursorPageRequest pageRequest) {
+        return bookCatalog.findPage(pageRequest.cursorAfter(), pageRequest.size());
     }
 
     // 특정 게시글의 추천 태그를 기반으로 도서 추천
     public BookListResponseDto recommendBooksByPostId(Long postId) {
-        // 1. 게시글 조회
-        Post post = postRepository.findById(postId)
+        // 1. 게시글 조회 (추천 API 장애 시 저장된 태그를 쓰기 위해 태그도 함께 조회)
+        Post post = postRepository.findByIdWithTags(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
                         ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage()));
 
         // 2. AI 기반 태그 추천
-        List<String> tags = tagClient.getRecommendedTags(post.getContents());
+        List<String> tags = getRecommendedTags(post);
 
         // 3. 태그 추천 결과가 비어있는 경우 예외 처리
         if (tags.isEmpty()) {
@@ -45,39 +45,27 @@ public class BookService {
                     ErrorCode.TAG_RECOMMENDATION_EMPTY.getMessage());
         }
 
-        // 4. 전체 도서 목록 조회
-        List<BookResponseDto> allBooks = bookSearchClient.fetchAllBooks();
-        // 5. alternativeTitle에 태그가 포함된 도서만 필터링
-        List<BookResponseDto> filteredBooks = filterBooksByAlternativeTitle(allBooks, tags);
+        // 4. alternativeTitle에 태그가 포함된 도서를 카탈로그 역색인에서 최대 3개 조회
+        List<BookResponseDto> filteredBooks = bookCatalog.findByAlternativeTitle(tags, 3);
 
-        // 6. 필터링 결과가 비어있으면 예외 처리
+        // 5. 필터링 결과가 비어있으면 예외 처리
         if (filteredBooks.isEmpty()) {
             throw new BusinessException(ErrorCode.BOOK_API_NO_RESULT, ErrorCode.BOOK_API_NO_RESULT.getMessage());
         }
 
-        // 7. 최종 결과 반환
-        return new BookListResponseDto(filteredBooks);
+        // 6. 최종 결과 반환
+        return BookListResponseDto.from(filteredBooks, null);
     }
 
-    // 도서 목록에서 alternativeTitle에 태그가 포함된 도서를 필터링
-    private List<BookResponseDto> filterBooksByAlternativeTitle(
-            List<BookResponseDto> books, List<String> tags
-    ) {
-        return books.stream()
-                // 각 도서(book)에 대해 필터링 조건 적용
-                .filter(book ->
-                        // 추천된 태그 중 하나라도 alternativeTitle에 포함되어 있는지 확인
-                        tags.stream().anyMatch(tag -> {
-                            // alternativeTitle이 null일 수 있으므로 Optional로 처리하여 빈 문자열로 대체
-                            String altTitle = Optional.ofNullable(book.alternativeTitle()).orElse("");
-                            // alternativeTitle에 현재 태그가 포함되어 있는 경우 true
-                            return altTitle.contains(tag);
-                        })
-                )
-                // 최대 3개의 도서만 선택
-                .limit(3)
-                // 결과를 리스트로 변환
-                .toList();
+    // 추천 API가 실패하거나 서킷이 열려 있으면 게시물에 이미 등록된 태그로 대체
+    private List<String> getRecommendedTags(Post post) {
+        try {
+            return tagRecommendationService.getRecommendedTags(post.getContents());
+        } catch (RuntimeException e) {
+            log.warn("추천 태그 조회 실패, 게시물 {}의 저장된 태그를 사용합니다: {}", post.getPostId(), e.getMessage());
+            return post.getPostTags().stream()
+                    .map(postTag -> postTag.getTag().getName())
+                    .toList();
+        }
     }
 }
-
@@ -0,0 +1,40 @@
+package com.likelion.likelionassignment07.book.domain;
+
+import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 외부 도서 API에서 주기적으로 수집한 도서 카탈로그
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Book {
+
+    // 카탈로그 전체를 한 번에 다시 저장하므로 배치 INSERT가 가능한 pooled 시퀀스 사용
+    @Id
+    @Column(name = "book_id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq_generator")
+    @SequenceGenerator(name = "book_seq_generator", sequenceName = "book_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(length = 1000)
+    private String title;
+
+    @Column(name = "alternative_title", length = 1000)
+    private String alternativeTitle;
+
+    @Column(length = 1000)
+    private String author;
+
+    @Column(length = 1000)
+    private String url;
+
+    public Book(BookResponseDto bookResponseDto) {
+        this.title = bookResponseDto.title();
+        this.alternativeTitle = bookResponseDto.alternativeTitle();
+        this.author = bookResponseDto.author();
+        this.url = bookResponseDto.url();
+    }
+}
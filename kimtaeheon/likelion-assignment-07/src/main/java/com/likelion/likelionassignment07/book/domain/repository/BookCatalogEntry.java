@@ -0,0 +1,11 @@
+package com.likelion.likelionassignment07.book.domain.repository;
+
+import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
+
+// 카탈로그를 메모리로 불러올 때 도서에서 읽는 값 (BookRepository.findCatalogueEntries)
+public record BookCatalogEntry(Long id, String title, String alternativeTitle, String author, String url) {
+
+    public BookResponseDto toDto() {
+        return new BookResponseDto(title, alternativeTitle, author, url);
+    }
+}
@@ -0,0 +1,18 @@
+package com.likelion.likelionassignment07.book.domain.repository;
+
+import com.likelion.likelionassignment07.book.domain.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BookRepository extends JpaRepository<Book, Long> {
+
+    // 카탈로그 적재용: cursor보다 큰 id부터 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new com.likelion.likelionassignment07.book.domain.repository.BookCatalogEntry(" +
+            "b.id, b.title, b.alternativeTitle, b.author, b.url) " +
+            "FROM Book b WHERE b.id > :cursor ORDER BY b.id")
+    List<BookCatalogEntry> findCatalogueEntries(@Param("cursor") Long cursor, Pageable pageable);
+}
@@ -0,0 +1,64 @@
+package com.likelion.likelionassignment07.common.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// 외부 API 하나의 최근 응답 시간 표본으로 계산한 타임아웃
+// 최근 window번 호출 응답 시간의 percentile * multiplier를 [floor, ceiling] 범위로 제한 (표본이 minSamples보다 적으면 ceiling)
+// 타임아웃으로 끝난 호출은 걸린 시간으로 기록하므로, 느린 호출이 percentile을 넘을 만큼 많아지면 타임아웃도 ceiling까지 늘어남
+public final class AdaptiveTimeout {
+
+    private final Duration floor;
+    private final Duration ceiling;
+    private final int minSamples;
+    private final double percentile;
+    private final double multiplier;
+
+    // 응답 시간 링 버퍼 (나노초)
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    private volatile Duration current;
+
+    public AdaptiveTimeout(Duration floor, Duration ceiling, int window, int minSamples,
+                           double percentile, double multiplier) {
+        this.floor = floor;
+        this.ceiling = ceiling;
+        this.minSamples = minSamples;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.samples = new long[window];
+        this.current = ceiling;
+    }
+
+    public Duration current() {
+        return current;
+    }
+
+    public void onSuccess(Duration elapsed) {
+        record(elapsed);
+    }
+
+    // 타임아웃 이상 걸린 실패만 기록 (바로 실패한 호출은 응답 시간을 알려주지 않음)
+    public void onFailure(Duration timeout, Duration elapsed) {
+        if (elapsed.compareTo(timeout) >= 0) {
+            record(elapsed);
+        }
+    }
+
+    private synchronized void record(Duration elapsed) {
+        samples[next] = elapsed.toNanos();
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        if (count < minSamples) {
+            return;
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        long observed = sorted[Math.max((int) Math.ceil(percentile * count) - 1, 0)];
+        long nanos = (long) (observed * multiplier);
+        current = Duration.ofNanos(Math.max(floor.toNanos(), Math.min(ceiling.toNanos(), nanos)));
+    }
+}
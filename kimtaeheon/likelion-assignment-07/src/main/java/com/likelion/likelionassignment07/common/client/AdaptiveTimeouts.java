@@ -0,0 +1,61 @@
+package com.likelion.likelionassignment07.common.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 외부 API별 AdaptiveTimeout (이름은 ExternalApiGuard와 같은 resilience4j 인스턴스 이름)
+// 클라이언트 설정(RestTemplateConfig, WebClientConfig)이 http-client.*.read-timeout을 상한으로 등록
+// 현재 타임아웃은 external.api.timeout 게이지로 노출
+@Component
+public class AdaptiveTimeouts {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration floor;
+    private final int window;
+    private final int minSamples;
+    private final double percentile;
+    private final double multiplier;
+
+    private final Map<String, AdaptiveTimeout> timeouts = new ConcurrentHashMap<>();
+
+    public AdaptiveTimeouts(
+            MeterRegistry meterRegistry,
+            @Value("${external-api.adaptive-timeout.min}") Duration floor,
+            @Value("${external-api.adaptive-timeout.window}") int window,
+            @Value("${external-api.adaptive-timeout.min-samples}") int minSamples,
+            @Value("${external-api.adaptive-timeout.percentile}") double percentile,
+            @Value("${external-api.adaptive-timeout.multiplier}") double multiplier
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.floor = floor;
+        this.window = window;
+        this.minSamples = minSamples;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+    }
+
+    public AdaptiveTimeout register(String name, Duration ceiling) {
+        return timeouts.computeIfAbsent(name, key -> {
+            AdaptiveTimeout timeout = new AdaptiveTimeout(floor, ceiling, window, minSamples, percentile, multiplier);
+            Gauge.builder("external.api.timeout", timeout, t -> t.current().toMillis())
+                    .tag("name", key)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return timeout;
+        });
+    }
+
+    public AdaptiveTimeout get(String name) {
+        AdaptiveTimeout timeout = timeouts.get(name);
+        if (timeout == null) {
+            throw new IllegalStateException("타임아웃이 등록되지 않은 외부 API: " + name);
+        }
+        return timeout;
+    }
+}
@@ -0,0 +1,144 @@
+package com.likelion.likelionassignment07.common.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
+import com.likelion.likelionassignment07.common.error.ErrorCode;
+import com.likelion.likelionassignment07.common.exception.BusinessException;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+// 도서 API 응답을 Map 트리로 만들지 않고 토큰 단위로 읽어 도서 항목을 하나씩 넘겨줌
+// { "response": { "body": { "items": { "item": [ {...}, ... ] } | "", "totalCount": n } } }
+// 사용하지 않는 필드(header, pageNo 등)는 skipChildren()으로 건너뜀
+final class BookPageParser {
+
+    private BookPageParser() {
+    }
+
+    // 도서 항목을 consumer로 넘기고 body의 totalCount를 반환
+    static int parse(JsonParser parser, Consumer<BookResponseDto> consumer) throws IOException {
+        if (parser.nextToken() == null) {
+            throw new BusinessException(ErrorCode.BOOK_API_RESPONSE_NULL, ErrorCode.BOOK_API_RESPONSE_NULL.getMessage());
+        }
+        requireObject(parser, ErrorCode.BOOK_API_BODY_MALFORMED);
+
+        Integer totalCount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("response".equals(field)) {
+                totalCount = parseResponse(parser, consumer);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (totalCount == null) {
+            throw new BusinessException(ErrorCode.BOOK_API_BODY_MALFORMED, ErrorCode.BOOK_API_BODY_MALFORMED.getMessage());
+        }
+        return totalCount;
+    }
+
+    private static Integer parseResponse(JsonParser parser, Consumer<BookResponseDto> consumer) throws IOException {
+        requireObject(parser, ErrorCode.BOOK_API_BODY_MALFORMED);
+
+        Integer totalCount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("body".equals(field)) {
+                totalCount = parseBody(parser, consumer);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return totalCount;
+    }
+
+    private static int parseBody(JsonParser parser, Consumer<BookResponseDto> consumer) throws IOException {
+        requireObject(parser, ErrorCode.BOOK_API_BODY_MALFORMED);
+
+        int totalCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("items".equals(field)) {
+                // 마지막 페이지 이후에는 items가 비어 있는 문자열로 내려옴
+                if (token == JsonToken.START_OBJECT) {
+                    parseItems(parser, consumer);
+                } else if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NULL) {
+                    throw new BusinessException(ErrorCode.BOOK_API_ITEMS_MALFORMED, ErrorCode.BOOK_API_ITEMS_MALFORMED.getMessage());
+                }
+            } else if ("totalCount".equals(field)) {
+                // 숫자 또는 문자열로 내려옴
+                totalCount = parseTotalCount(parser, token);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return totalCount;
+    }
+
+    private static void parseItems(JsonParser parser, Consumer<BookResponseDto> consumer) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"item".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(parseItem(parser));
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                // 결과가 한 건이면 배열이 아닌 단일 객체로 내려옴
+                consumer.accept(parseItem(parser));
+            } else {
+                throw new BusinessException(ErrorCode.BOOK_API_ITEM_MALFORMED, ErrorCode.BOOK_API_ITEM_MALFORMED.getMessage());
+            }
+        }
+    }
+
+    // 개별 도서 항목을 BookResponseDto로 변환
+    private static BookResponseDto parseItem(JsonParser parser) throws IOException {
+        requireObject(parser, ErrorCode.BOOK_API_ITEM_MALFORMED);
+
+        String title = "";
+        String alternativeTitle = "";
+        String author = "";
+        String url = "";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "title" -> title = parser.getValueAsString("");                       // 도서 제목
+                case "alternativeTitle" -> alternativeTitle = parser.getValueAsString(""); // 대체 제목 (한국어 제목)
+                case "author" -> author = parser.getValueAsString("");                     // 저자
+                case "url" -> url = parser.getValueAsString("");                           // 상세 페이지 링크
+                default -> parser.skipChildren();
+            }
+        }
+        return new BookResponseDto(title, alternativeTitle, author, url);
+    }
+
+    private static int parseTotalCount(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING && !parser.getText().isBlank()) {
+            return Integer.parseInt(parser.getText().trim());
+        }
+        parser.skipChildren();
+        return 0;
+    }
+
+    private static void requireObject(JsonParser parser, ErrorCode errorCode) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new BusinessException(errorCode, errorCode.getMessage());
+        }
+    }
+}
@@ -1,27 +1,39 @@
 package com.likelion.likelionassignment07.common.client;
 
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
 import com.likelion.likelionassignment07.common.error.ErrorCode;
 import com.likelion.likelionassignment07.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class BookSearchClient {
 
+    // 서킷 브레이커/벌크헤드 이름 (resilience4j.*.instances.book)
+    private static final String API_NAME = "book";
+
+    @Qualifier("bookRestTemplate")
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExternalApiGuard externalApiGuard;
 
     @Value("${book-api.base-url}")
     private String baseUrl;
@@ -29,68 +41,35 @@ public class BookSearchClient {
     @Value("${book-api.service-key}")
     private String serviceKey;
 
-    // 외부 도서 API로부터 전체 도서 목록을 조회
-    public List<BookResponseDto> fetchAllBooks() {
+    // 외부 도서 API로부터 한 페이지의 도서 목록을 조회
+    // 응답 전체를 Map으로 만들지 않고 읽는 즉시 도서 항목을 consumer로 넘기며, body의 전체 도서 수를 반환
+    public int fetchBookPage(int pageNo, int numOfRows, Consumer<BookResponseDto> consumer) {
         URI uri = UriComponentsBuilder.fromUriString(baseUrl)
                 .queryParam("serviceKey", serviceKey)
-                .queryParam("numOfRows", 100) // 한 페이지에 100권 조회 (임의 세팅)
-                .queryParam("pageNo", 150)  // 150번째 페이지 (임의 세팅)
+                .queryParam("numOfRows", numOfRows)
+                .queryParam("pageNo", pageNo)
                 .build()
                 .toUri();
 
-        // 외부 API 호출
-        ResponseEntity<Map> response = restTemplate.getForEntity(uri, Map.class);
+        // 외부 API 호출 (장애로 거절되면 수집을 중단하고 기존 카탈로그 유지)
+        Integer totalCount = externalApiGuard.call(API_NAME, () -> restTemplate.execute(
+                uri,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> parseBookPage(response.getBody(), consumer)
+        ));
 
         // 응답 body가 null인 경우 예외 발생
-        Map<String, Object> body = Optional.ofNullable(response.getBody())
+        return Optional.ofNullable(totalCount)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_API_RESPONSE_NULL, ErrorCode.BOOK_API_RESPONSE_NULL.getMessage()));
-
-        // 'item' 리스트를 추출한 후 BookResponseDto 형태로 변환
-        return extractItemList(body).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-
-    // 응답 맵에서 도서 항목 리스트 추출
-    @SuppressWarnings("unchecked") // 컴파일러 경고 무시
-    private List<Map<String, Object>> extractItemList(Map<String, Object> responseMap) {
-        // 'item' 리스트까지 접근
-        Map<String, Object> response = castToMap(responseMap.get("response"), ErrorCode.BOOK_API_BODY_MALFORMED);
-        Map<String, Object> body = castToMap(response.get("body"), ErrorCode.BOOK_API_BODY_MALFORMED);
-        Map<String, Object> items = castToMap(body.get("items"), ErrorCode.BOOK_API_ITEMS_MALFORMED);
-        Object itemObj = items.get("item");
-
-        // 'itemObj'가 실제로 List<Map<String, Object>> 형태라고 가정하고 형변환
-        // 컴파일러는 타입 안정성을 보장할 수 없기 때문에 unchecked cast 경고가 발생-!
-        // -> 이 경고를 무시하기 위해 @SuppressWarnings("unchecked")를 선언했다고 생각하면 됨
-        if (itemObj instanceof List<?> itemList) {
-            return (List<Map<String, Object>>) itemList;
-        }
-
-        // 그 외는 형식 오류로 예외 처리
-        throw new BusinessException(ErrorCode.BOOK_API_ITEM_MALFORMED, ErrorCode.BOOK_API_ITEM_MALFORMED.getMessage());
     }
 
-    // 개별 도서 항목 Map을 BookResponseDto로 변환
-    private BookResponseDto toDto(Map<String, Object> item) {
-        return new BookResponseDto(
-                (String) item.getOrDefault("title", ""),              // 도서 제목
-                (String) item.getOrDefault("alternativeTitle", ""),   // 대체 제목 (한국어 제목)
-                (String) item.getOrDefault("author", ""),             // 저자
-                (String) item.getOrDefault("url", "")                 // 상세 페이지 링크
-        );
-    }
-
-    // 위에서 설명한 상황과 유사하다고 생각하면 됨. (정확히는 Map<String, Object> 캐스팅은 컴파일러가 타입 안정성을 확인할 수 없기 때문)
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> castToMap(Object obj, ErrorCode errorCode) {
-        // obj가 Map 타입이 아닌 경우 예외를 발생
-        if (!(obj instanceof Map)) {
-            // 비즈니스 로직에 정의된 에러 코드와 메시지를 포함한 예외를 던짐
-            throw new BusinessException(errorCode, errorCode.getMessage());
+    private int parseBookPage(InputStream body, Consumer<BookResponseDto> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            return BookPageParser.parse(parser, consumer);
+        } catch (JsonProcessingException e) {
+            // JSON 문법 오류는 형식 오류로 처리
+            throw new BusinessException(ErrorCode.BOOK_API_BODY_MALFORMED, ErrorCode.BOOK_API_BODY_MALFORMED.getMessage());
         }
-
-        // Map 타입이 확인 -> 따라서 안전하게 형변환하여 반환-!
-        return (Map<String, Object>) obj;
     }
 }
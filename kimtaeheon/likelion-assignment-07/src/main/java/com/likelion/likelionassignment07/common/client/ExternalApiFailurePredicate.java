@@ -0,0 +1,23 @@
+package com.likelion.likelionassignment07.common.client;
+
+import com.likelion.likelionassignment07.common.exception.BusinessException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.function.Predicate;
+
+// 서킷 브레이커가 실패로 셀 예외 (resilience4j.circuitbreaker.configs.default.record-failure-predicate)
+// 없는 도시 조회 같은 요청 오류(4xx)나 벌크헤드 초과는 외부 API 장애가 아니므로 제외
+public class ExternalApiFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof BulkheadFullException || throwable instanceof HttpClientErrorException) {
+            return false;
+        }
+        if (throwable instanceof BusinessException e) {
+            return e.getErrorCode().getHttpStatus().is5xxServerError();
+        }
+        return true;
+    }
+}
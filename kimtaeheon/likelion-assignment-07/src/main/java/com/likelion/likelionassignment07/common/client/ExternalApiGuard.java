@@ -0,0 +1,127 @@
+package com.likelion.likelionassignment07.common.client;
+
+import com.likelion.likelionassignment07.common.error.ErrorCode;
+import com.likelion.likelionassignment07.common.exception.BusinessException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 외부 API 호출을 API별 서킷 브레이커와 벌크헤드로 감쌈
+// - 서킷 브레이커: 실패/느린 호출 비율이 높으면 한동안 호출하지 않고 바로 실패 (스레드가 타임아웃까지 묶이지 않도록)
+// - 벌크헤드: API별 동시 호출 수 제한 (한 API가 느려져도 다른 기능의 스레드를 모두 차지하지 않도록)
+// - 타임아웃: 최근 응답 시간으로 계산 (AdaptiveTimeout), 호출마다 걸린 시간을 기록
+//   RestTemplate은 요청마다 응답 대기 시간으로 적용하고(RestTemplateConfig), Mono는 여기서 timeout 연산자로 적용
+// 설정은 resilience4j.circuitbreaker/bulkhead.instances.{이름}, external-api.adaptive-timeout
+@Slf4j
+@Component
+public class ExternalApiGuard {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveTimeouts adaptiveTimeouts;
+
+    public ExternalApiGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                            BulkheadRegistry bulkheadRegistry,
+                            MeterRegistry meterRegistry,
+                            AdaptiveTimeouts adaptiveTimeouts) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+        this.adaptiveTimeouts = adaptiveTimeouts;
+
+        // 상태 변화는 로그와 카운터로 남김 (현재 상태는 resilience4j.circuitbreaker.state 게이지)
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::onStateTransition);
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(event -> onStateTransition(event.getAddedEntry()));
+    }
+
+    // 호출이 거절되면(서킷 열림, 동시 호출 초과) EXTERNAL_API_UNAVAILABLE
+    public <T> T call(String name, Supplier<T> supplier) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        AdaptiveTimeout timeout = adaptiveTimeouts.get(name);
+        Supplier<T> timed = () -> timed(timeout, supplier);
+
+        try {
+            return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, timed)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("외부 API 호출 거절: {} ({})", name, e.getMessage());
+            throw new BusinessException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                    ErrorCode.EXTERNAL_API_UNAVAILABLE.getMessage() + name);
+        }
+    }
+
+    // 논블로킹 호출용 (벌크헤드는 구독 중인 호출 수를 제한)
+    // 타임아웃이 지나면 EXTERNAL_API_UNAVAILABLE (서킷 브레이커에는 실패로 기록)
+    public <T> Mono<T> call(String name, Mono<T> mono) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        AdaptiveTimeout timeout = adaptiveTimeouts.get(name);
+
+        return Mono.defer(() -> {
+                    Duration limit = timeout.current();
+                    long start = System.nanoTime();
+                    return mono.timeout(limit)
+                            .doOnSuccess(result -> timeout.onSuccess(elapsedSince(start)))
+                            .doOnError(e -> timeout.onFailure(limit, elapsedSince(start)));
+                })
+                .onErrorMap(TimeoutException.class, e -> {
+                    log.warn("외부 API 응답 시간 초과: {} ({})", name, e.getMessage());
+                    return new BusinessException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                            ErrorCode.EXTERNAL_API_UNAVAILABLE.getMessage() + name);
+                })
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException, e -> {
+                    log.warn("외부 API 호출 거절: {} ({})", name, e.getMessage());
+                    return new BusinessException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                            ErrorCode.EXTERNAL_API_UNAVAILABLE.getMessage() + name);
+                });
+    }
+
+    private <T> T timed(AdaptiveTimeout timeout, Supplier<T> supplier) {
+        Duration limit = timeout.current();
+        long start = System.nanoTime();
+        try {
+            T result = supplier.get();
+            timeout.onSuccess(elapsedSince(start));
+            return result;
+        } catch (RuntimeException e) {
+            timeout.onFailure(limit, elapsedSince(start));
+            throw e;
+        }
+    }
+
+    private static Duration elapsedSince(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void onStateTransition(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("서킷 브레이커 상태 변경: {} {} -> {}",
+                    event.getCircuitBreakerName(), transition.getFromState(), transition.getToState());
+            Counter.builder("external.api.circuit.transition")
+                    .tag("name", event.getCircuitBreakerName())
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+}
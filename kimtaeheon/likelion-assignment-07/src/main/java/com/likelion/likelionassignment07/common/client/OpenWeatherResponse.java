@@ -0,0 +1,45 @@
+package com.likelion.likelionassignment07.common.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+// OpenWeather 현재 날씨 API 응답 중 사용하는 필드만 담은 타입
+// 나머지 필드(coord, clouds 등)는 역직렬화 시 건너뜀
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OpenWeatherResponse(
+        String name,
+        Main main,
+        List<Weather> weather,
+        Wind wind,
+        Sys sys
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Main(
+            double temp,
+            @JsonProperty("feels_like") double feelsLike,
+            double humidity
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Weather(
+            String main,
+            String description
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Wind(
+            double speed
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Sys(
+            String country
+    ) {
+    }
+}
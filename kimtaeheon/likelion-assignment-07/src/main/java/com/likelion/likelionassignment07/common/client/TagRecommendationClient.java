@@ -1,5 +1,6 @@
 package com.likelion.likelionassignment07.common.client;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -14,21 +15,32 @@ import java.util.Optional;
 @Component
 public class TagRecommendationClient {
 
+    // 서킷 브레이커/벌크헤드 이름 (resilience4j.*.instances.tagRecommendation)
+    private static final String API_NAME = "tagRecommendation";
+
     // 외부 API 호출을 위한 HTTP 클라이언트
     private final RestTemplate restTemplate;
+    private final ExternalApiGuard externalApiGuard;
     // 태그 추천 API 엔드포인트 URL
     private final String apiUrl;
 
     public TagRecommendationClient(
-            RestTemplate restTemplate,
+            @Qualifier("tagRecommendationRestTemplate") RestTemplate restTemplate,
+            ExternalApiGuard externalApiGuard,
             @Value("${tag.recommendation.api-url}") String apiUrl
     ) {
         this.restTemplate = restTemplate;
+        this.externalApiGuard = externalApiGuard;
         this.apiUrl = apiUrl;
     }
 
     // 게시물 contests 기반으로 추천 태그 목록 요청
+    // 추천 API 장애로 호출이 거절되면 EXTERNAL_API_UNAVAILABLE (빈 목록으로 대체하지 않음, 태깅은 재시도 대상으로 남김)
     public List<String> getRecommendedTags(String contents) {
+        return externalApiGuard.call(API_NAME, () -> requestRecommendedTags(contents));
+    }
+
+    private List<String> requestRecommendedTags(String contents) {
         // HTTP 요청 헤더 설정 : Content-Type을 JSON
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
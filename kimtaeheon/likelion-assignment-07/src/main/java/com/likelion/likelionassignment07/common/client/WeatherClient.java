@@ -0,0 +1,106 @@
+package com.likelion.likelionassignment07.common.client;
+
+import com.likelion.likelionassignment07.common.error.ErrorCode;
+import com.likelion.likelionassignment07.common.exception.BusinessException;
+import com.likelion.likelionassignment07.weather.api.dto.response.WeatherResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+
+// OpenWeather 현재 날씨 API 호출 (캐시 없이 항상 원격 호출, 캐시는 WeatherService에서 담당)
+// WebClient로 호출하므로 응답을 기다리는 동안 스레드를 잡지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WeatherClient {
+
+    // 서킷 브레이커/벌크헤드 이름 (resilience4j.*.instances.weather)
+    private static final String API_NAME = "weather";
+
+    @Qualifier("weatherWebClient")
+    private final WebClient webClient;
+    private final ExternalApiGuard externalApiGuard;
+
+    @Value("${weather.api.key}")
+    private String apiKey;
+
+    @Value("${weather.api.url}")
+    private String baseUrl;
+
+    // 장애로 호출이 거절되면 EXTERNAL_API_UNAVAILABLE (캐시에 이전 값이 있으면 WeatherService가 그 값을 계속 사용)
+    public Mono<WeatherResponseDto> getCurrentWeather(String city) {
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("q", city)
+                .queryParam("appid", apiKey)
+                .queryParam("units", "metric")
+                .queryParam("lang", "kr")
+                .build()
+                .toUri();
+
+        Mono<WeatherResponseDto> call = webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(OpenWeatherResponse.class)
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.WEATHER_API_ERROR,
+                        ErrorCode.WEATHER_API_ERROR.getMessage())))
+                .map(this::parseWeatherData)
+                .doOnSubscribe(subscription -> log.info("날씨 API 호출: {}", city))
+                .doOnSuccess(weather -> log.info("날씨 API 응답 성공: {}", city))
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> toBusinessException(city, e));
+
+        return externalApiGuard.call(API_NAME, call);
+    }
+
+    private BusinessException toBusinessException(String city, Throwable e) {
+        if (e instanceof WebClientResponseException.Unauthorized) {
+            log.error("날씨 API 키 인증 실패: {}", e.getMessage());
+            return new BusinessException(ErrorCode.WEATHER_API_KEY_INVALID, ErrorCode.WEATHER_API_KEY_INVALID.getMessage());
+        }
+        if (e instanceof WebClientResponseException.NotFound) {
+            log.error("도시를 찾을 수 없음: {}", city);
+            return new BusinessException(ErrorCode.WEATHER_CITY_NOT_FOUND, ErrorCode.WEATHER_CITY_NOT_FOUND.getMessage());
+        }
+        if (e instanceof DecodingException) {
+            // 응답을 OpenWeatherResponse로 읽지 못한 경우
+            log.error("날씨 데이터 파싱 실패", e);
+            return new BusinessException(ErrorCode.WEATHER_DATA_PARSING_ERROR, ErrorCode.WEATHER_DATA_PARSING_ERROR.getMessage());
+        }
+        log.error("날씨 API 호출 중 네트워크 오류", e);
+        return new BusinessException(ErrorCode.WEATHER_API_ERROR, ErrorCode.WEATHER_API_ERROR.getMessage());
+    }
+
+    private WeatherResponseDto parseWeatherData(OpenWeatherResponse data) {
+        // main 객체에서 온도, 습도 정보 추출
+        OpenWeatherResponse.Main main = data.main();
+        if (main == null) {
+            throw new BusinessException(ErrorCode.WEATHER_DATA_PARSING_ERROR, ErrorCode.WEATHER_DATA_PARSING_ERROR.getMessage());
+        }
+
+        // weather 배열에서 날씨 설명 추출
+        List<OpenWeatherResponse.Weather> weather = data.weather();
+        if (weather == null || weather.isEmpty()) {
+            throw new BusinessException(ErrorCode.WEATHER_DATA_PARSING_ERROR, ErrorCode.WEATHER_DATA_PARSING_ERROR.getMessage());
+        }
+
+        // wind 객체에서 풍속 정보 추출
+        double windSpeed = data.wind() != null ? data.wind().speed() : 0.0;
+
+        // 도시명과 국가 정보
+        String country = data.sys() != null ? data.sys().country() : "";
+
+        return new WeatherResponseDto(
+                data.name(), main.temp(), main.feelsLike(), main.humidity(),
+                weather.get(0).description(), weather.get(0).main(), windSpeed, country
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.likelion.likelionassignment07.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    @Bean
+    // 추천 태그 등록용 스레드 풀 (큐 크기를 제한해 추천 API가 느려져도 작업이 무한히 쌓이지 않도록 함)
+    // 큐 크기로 백프레셔를 주므로 가상 스레드 모드에서도 플랫폼 스레드 풀 유지
+    public ThreadPoolTaskExecutor postTaggingExecutor(
+            @Value("${post.tagging.pool-size}") int poolSize,
+            @Value("${post.tagging.queue-capacity}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-tagging-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean
+    // 게시물 이미지 변형 생성용 스레드 풀 (이미지 디코딩은 메모리를 많이 쓰므로 스레드와 큐를 작게 유지)
+    public ThreadPoolTaskExecutor postImageExecutor(
+            @Value("${post.image.pool-size}") int poolSize,
+            @Value("${post.image.queue-capacity}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean
+    // 게시물 일괄 저장의 이미지 업로드용 스레드 풀
+    // 풀과 큐가 가득 차면 요청 스레드가 직접 올리므로 동시에 진행되는 업로드 수가 제한됨
+    public ThreadPoolTaskExecutor postBulkUploadExecutor(
+            @Value("${post.bulk.upload-concurrency}") int concurrency
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("post-bulk-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -1,15 +1,138 @@
 package com.likelion.likelionassignment07.common.config;
 
+import com.likelion.likelionassignment07.common.client.AdaptiveTimeout;
+import com.likelion.likelionassignment07.common.client.AdaptiveTimeouts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+// 외부 API별로 커넥션 풀을 분리한 RestTemplate (날씨 API는 WebClientConfig)
+// 한 API가 느려져도 다른 API가 사용할 커넥션/스레드까지 잡아먹지 않도록 풀 크기와 타임아웃을 따로 설정
+// 응답 대기 시간은 요청마다 AdaptiveTimeout의 현재 값 (read-timeout은 그 상한)
 @Configuration
 public class RestTemplateConfig {
 
+    // 오래된 keep-alive 커넥션 재사용으로 인한 오류를 막기 위한 커넥션 최대 수명 / 유휴 커넥션 정리 주기
+    private static final TimeValue CONNECTION_TIME_TO_LIVE = TimeValue.ofMinutes(5);
+    private static final TimeValue IDLE_CONNECTION_EVICTION = TimeValue.ofSeconds(30);
+
+    @Bean(destroyMethod = "close")
+    // 공공 도서 API용 HTTP 클라이언트 (컨텍스트 종료 시 커넥션 풀까지 닫음)
+    public CloseableHttpClient bookHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${http-client.book.max-total}") int maxTotal,
+            @Value("${http-client.book.max-per-route}") int maxPerRoute,
+            @Value("${http-client.book.connect-timeout}") Duration connectTimeout,
+            @Value("${http-client.book.read-timeout}") Duration readTimeout
+    ) {
+        return createHttpClient("book", meterRegistry, maxTotal, maxPerRoute, connectTimeout, readTimeout);
+    }
+
+    @Bean
+    // 공공 도서 API용
+    public RestTemplate bookRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            @Qualifier("bookHttpClient") CloseableHttpClient httpClient,
+            AdaptiveTimeouts adaptiveTimeouts,
+            @Value("${http-client.book.connect-timeout}") Duration connectTimeout,
+            @Value("${http-client.book.read-timeout}") Duration readTimeout
+    ) {
+        return createRestTemplate(restTemplateBuilder, httpClient, connectTimeout,
+                adaptiveTimeouts.register("book", readTimeout));
+    }
+
+    @Bean(destroyMethod = "close")
+    // AI 태그 추천 API용 HTTP 클라이언트 (컨텍스트 종료 시 커넥션 풀까지 닫음)
+    public CloseableHttpClient tagRecommendationHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${http-client.tag-recommendation.max-total}") int maxTotal,
+            @Value("${http-client.tag-recommendation.max-per-route}") int maxPerRoute,
+            @Value("${http-client.tag-recommendation.connect-timeout}") Duration connectTimeout,
+            @Value("${http-client.tag-recommendation.read-timeout}") Duration readTimeout
+    ) {
+        return createHttpClient("tag-recommendation", meterRegistry, maxTotal, maxPerRoute, connectTimeout, readTimeout);
+    }
+
     @Bean
-    // RestTemplate 빈을 생성하여 스프링 컨테이너에 등록
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    // AI 태그 추천 API용
+    public RestTemplate tagRecommendationRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            @Qualifier("tagRecommendationHttpClient") CloseableHttpClient httpClient,
+            AdaptiveTimeouts adaptiveTimeouts,
+            @Value("${http-client.tag-recommendation.connect-timeout}") Duration connectTimeout,
+            @Value("${http-client.tag-recommendation.read-timeout}") Duration readTimeout
+    ) {
+        return createRestTemplate(restTemplateBuilder, httpClient, connectTimeout,
+                adaptiveTimeouts.register("tagRecommendation", readTimeout));
+    }
+
+    // 커넥션 매니저는 클라이언트가 소유하므로 클라이언트를 닫으면 함께 닫힘
+    private CloseableHttpClient createHttpClient(
+            String name,
+            MeterRegistry meterRegistry,
+            int maxTotal,
+            int maxPerRoute,
+            Duration connectTimeout,
+            Duration readTimeout
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(CONNECTION_TIME_TO_LIVE)
+                        .build())
+                .build();
+
+        // 풀 사용량 지표 (httpcomponents.httpclient.pool.* , httpclient=name 태그)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig(connectTimeout, readTimeout))
+                .evictIdleConnections(IDLE_CONNECTION_EVICTION)
+                .build();
+    }
+
+    private RestTemplate createRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient httpClient,
+                                            Duration connectTimeout, AdaptiveTimeout timeout) {
+        return restTemplateBuilder
+                .requestFactory(() -> {
+                    HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+                    // 요청 설정을 컨텍스트에 넣으면 클라이언트 기본 설정 대신 사용되므로 응답 대기 시간만 현재 값으로 바꿔 넣음
+                    requestFactory.setHttpContextFactory((method, uri) -> {
+                        HttpClientContext context = HttpClientContext.create();
+                        context.setRequestConfig(requestConfig(connectTimeout, timeout.current()));
+                        return context;
+                    });
+                    return requestFactory;
+                })
+                .build();
+    }
+
+    private static RequestConfig requestConfig(Duration connectTimeout, Duration responseTimeout) {
+        return RequestConfig.custom()
+                // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+                .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                .setResponseTimeout(Timeout.of(responseTimeout))
+                .build();
     }
 }
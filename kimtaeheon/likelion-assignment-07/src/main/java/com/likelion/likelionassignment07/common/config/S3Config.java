@@ -2,12 +2,20 @@ package com.likelion.likelionassignment07.common.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3Builder;
+import com.amazonaws.client.builder.ExecutorFactory;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.Executors;
 
 @Configuration
 public class S3Config {
@@ -21,15 +29,49 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // MinIO / LocalStack 같은 S3 호환 서버 주소 (비어 있으면 AWS S3 사용)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     // Amazon S3 Bean 생성
     public AmazonS3 amazonS3() {
         // IAM 인증 정보 설정
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(credentials)); // 인증 정보 주입
+
+        if (StringUtils.hasText(endpoint)) {
+            // S3 호환 서버는 버킷을 호스트가 아닌 경로로 구분 (http://localhost:9000/bucket/key)
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
+
         // AmazonS3 클라이언트를 빌드하여 반환
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(credentials)) // 인증 정보 주입
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    // 큰 파일을 여러 파트로 나눠 병렬 업로드하는 TransferManager
+    public TransferManager transferManager(
+            AmazonS3 amazonS3,
+            @Value("${s3.upload.multipart-threshold}") DataSize multipartThreshold,
+            @Value("${s3.upload.part-size}") DataSize partSize,
+            @Value("${s3.upload.threads}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        // 가상 스레드 모드에서는 파트마다 가상 스레드 (동시 전송 수는 S3 클라이언트 커넥션 풀이 제한)
+        ExecutorFactory executorFactory = virtualThreads
+                ? () -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-transfer-", 0).factory())
+                : () -> Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("s3-transfer-"));
+
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThreshold.toBytes())
+                .withMinimumUploadPartSize(partSize.toBytes())
+                .withExecutorFactory(executorFactory)
                 .build();
     }
 }
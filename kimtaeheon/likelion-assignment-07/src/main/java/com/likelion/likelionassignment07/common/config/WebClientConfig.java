@@ -0,0 +1,60 @@
+package com.likelion.likelionassignment07.common.config;
+
+import com.likelion.likelionassignment07.common.client.AdaptiveTimeouts;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// 논블로킹 외부 API 호출용 WebClient (Reactor Netty 이벤트 루프 스레드 몇 개로 많은 호출을 동시에 처리)
+// RestTemplateConfig와 같이 API별로 커넥션 풀과 타임아웃을 분리
+@Configuration
+public class WebClientConfig {
+
+    // 오래된 keep-alive 커넥션 재사용으로 인한 오류를 막기 위한 커넥션 최대 수명 / 유휴 커넥션 정리 주기
+    private static final Duration CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final Duration IDLE_CONNECTION_EVICTION = Duration.ofSeconds(30);
+
+    @Bean
+    // OpenWeather API용
+    public WebClient weatherWebClient(
+            WebClient.Builder webClientBuilder,
+            AdaptiveTimeouts adaptiveTimeouts,
+            @Value("${http-client.weather.max-total}") int maxTotal,
+            @Value("${http-client.weather.pending-acquire-max}") int pendingAcquireMax,
+            @Value("${http-client.weather.connect-timeout}") Duration connectTimeout,
+            @Value("${http-client.weather.read-timeout}") Duration readTimeout
+    ) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("weather")
+                .maxConnections(maxTotal)
+                // 커넥션을 기다리는 요청 수와 시간 (스레드를 잡지 않으므로 대기열을 넉넉하게 둠)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(connectTimeout)
+                .maxLifeTime(CONNECTION_TIME_TO_LIVE)
+                .maxIdleTime(IDLE_CONNECTION_EVICTION)
+                .evictInBackground(IDLE_CONNECTION_EVICTION)
+                // 풀 사용량 지표 (reactor.netty.connection.provider.*, name=weather 태그)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                // 응답 대기 상한 (호출마다 ExternalApiGuard가 AdaptiveTimeout의 현재 값으로 더 짧게 끊음)
+                .responseTimeout(readTimeout)
+                // 요청 지표 (reactor.netty.http.client.*)
+                // URI에는 도시명과 API 키가 들어가므로 태그는 하나로 고정
+                .metrics(true, uri -> "weather");
+
+        adaptiveTimeouts.register("weather", readTimeout);
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
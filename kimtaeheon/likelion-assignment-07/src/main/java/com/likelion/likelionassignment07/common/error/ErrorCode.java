@@ -12,9 +12,11 @@ public enum ErrorCode {
     // 404
     MEMBER_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 사용자가 없습니다. memberId = ", "NOT_FOUND_404"),
     POST_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 게시글이 없습니다. postId = ", "NOT_FOUND_404"),
+    TAG_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 태그가 없습니다. tagId = ", "NOT_FOUND_404"),
     TAG_RECOMMENDATION_EMPTY(HttpStatus.BAD_REQUEST, "추천 가능한 태그가 없습니다.", "TAG_RECOMMENDATION_EMPTY_400"),
     BOOK_API_NO_RESULT(HttpStatus.NOT_FOUND, "해당 키워드로 검색된 도서가 없습니다.", "BOOK_API_NO_RESULT_400"),
     WEATHER_CITY_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 도시의 날씨 정보를 찾을 수 없습니다.", "WEATHER_CITY_NOT_FOUND_404"),
+    IMAGE_UPLOAD_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드된 이미지를 찾을 수 없습니다. key = ", "IMAGE_UPLOAD_NOT_FOUND_404"),
 
     // 500
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 서버 에러가 발생했습니다", "INTERNAL_SERVER_ERROR_500"),
@@ -29,8 +31,18 @@ public enum ErrorCode {
     WEATHER_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "날씨 정보 API 호출에 실패했습니다.", "WEATHER_API_ERROR_500"),
     WEATHER_DATA_PARSING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "날씨 데이터 파싱에 실패했습니다.", "WEATHER_DATA_PARSING_ERROR_500"),
 
+    // 503
+    EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 API를 일시적으로 사용할 수 없습니다. api = ", "EXTERNAL_API_UNAVAILABLE_503"),
+
     // 400
     VALIDATION_EXCEPTION(HttpStatus.BAD_REQUEST, "유효성 검사에 실패하였습니다.", "BAD_REQUEST_400"),
+    WEATHER_TOO_MANY_CITIES(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 도시 수를 초과했습니다. max = ", "WEATHER_TOO_MANY_CITIES_400"),
+    IMAGE_UPLOAD_INVALID(HttpStatus.BAD_REQUEST, "업로드한 이미지가 올바르지 않습니다. ", "IMAGE_UPLOAD_INVALID_400"),
+    TAG_QUERY_INVALID(HttpStatus.BAD_REQUEST, "태그 조건이 올바르지 않습니다. ", "TAG_QUERY_INVALID_400"),
+    POST_BULK_TOO_MANY(HttpStatus.BAD_REQUEST, "한 번에 저장할 수 있는 게시물 수를 초과했습니다. max = ", "POST_BULK_TOO_MANY_400"),
+
+    // 409
+    TAG_NAME_DUPLICATED(HttpStatus.CONFLICT, "이미 존재하는 태그 이름입니다. name = ", "TAG_NAME_DUPLICATED_409"),
 
     // 401
     WEATHER_API_KEY_INVALID(HttpStatus.UNAUTHORIZED, "날씨 API 키가 유효하지 않습니다.", "WEATHER_API_KEY_INVALID_401");
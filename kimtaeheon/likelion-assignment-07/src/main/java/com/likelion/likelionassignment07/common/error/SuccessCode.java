@@ -16,8 +16,11 @@ public enum SuccessCode {
     MEMBER_DELETE_SUCCESS(HttpStatus.OK, "사용자가 성공적으로 삭제되었습니다."),
     POST_DELETE_SUCCESS(HttpStatus.OK, "글이 성공적으로 삭제되었습니다."),
     POST_IMAGE_DELETE_SUCCESS(HttpStatus.OK, "게시글의 이미지가 성공적으로 삭제되었습니다."),
+    POST_IMAGE_UPLOAD_SUCCESS(HttpStatus.OK, "게시글의 이미지가 성공적으로 등록되었습니다."),
+    POST_BULK_SAVE_SUCCESS(HttpStatus.OK, "게시글 일괄 저장을 처리했습니다. 항목별 결과를 확인하세요."),
 
     // 201
+    POST_IMAGE_UPLOAD_URL_SUCCESS(HttpStatus.CREATED, "이미지 업로드 URL이 발급되었습니다."),
     MEMBER_SAVE_SUCCESS(HttpStatus.CREATED, "사용자가 성공적으로 생성되었습니다."),
     POST_SAVE_SUCCESS(HttpStatus.CREATED, "글이 성공적으로 생성되었습니다.");
 
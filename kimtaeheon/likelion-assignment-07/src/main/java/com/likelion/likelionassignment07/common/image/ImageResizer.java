@@ -0,0 +1,123 @@
+package com.likelion.likelionassignment07.common.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 원본 이미지를 목록 화면용 크기의 JPEG로 줄임 (S3와 무관한 순수 변환)
+@Component
+public class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    // 헤더에 비정상적으로 큰 크기가 적힌 이미지로 메모리를 고갈시키지 않도록 제한
+    @Value("${post.image.max-pixels}")
+    private long maxPixels;
+
+    // 원본보다 작은 너비마다 JPEG 변형을 만들어 반환 (너비 -> JPEG 바이트, 큰 너비부터)
+    public Map<Integer, byte[]> resize(InputStream source, List<Integer> widths) throws IOException {
+        int largestWidth = widths.stream().max(Comparator.naturalOrder()).orElseThrow();
+
+        // 기본 ImageIO 스트림은 디스크 임시 파일을 캐시로 쓰므로 메모리 캐시 사용
+        try (ImageInputStream input = new MemoryCacheImageInputStream(source)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    throw new IOException("이미지가 너무 큽니다. " + sourceWidth + "x" + sourceHeight);
+                }
+
+                // 가장 큰 변형의 2배 정도 해상도로만 디코딩해 메모리와 CPU 사용을 줄임
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (largestWidth * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                Map<Integer, byte[]> variants = new LinkedHashMap<>();
+                List<Integer> descending = widths.stream().sorted(Comparator.reverseOrder()).toList();
+                for (int width : descending) {
+                    // 원본보다 크거나 같은 변형은 만들지 않음 (원본을 그대로 사용)
+                    if (width >= sourceWidth) {
+                        continue;
+                    }
+                    // 큰 변형을 다음 변형의 입력으로 재사용
+                    image = scale(image, width);
+                    variants.put(width, encodeJpeg(image));
+                }
+                return variants;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 목표 크기로 맞춤
+    private BufferedImage scale(BufferedImage source, int width) {
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width) {
+            current = draw(current, current.getWidth() / 2);
+        }
+        return current.getWidth() == width ? current : draw(current, width);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG는 투명도가 없으므로 투명 배경(PNG 등)은 흰색으로 채움
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
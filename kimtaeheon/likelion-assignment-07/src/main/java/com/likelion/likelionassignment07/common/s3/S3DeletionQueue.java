@@ -0,0 +1,150 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// S3 객체 삭제 요청을 DB 큐에 기록하고, 워커가 사용할 조회/삭제/재시도 처리를 담당
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class S3DeletionQueue {
+
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final StoredImageService storedImageService;
+    private final S3Uploader s3Uploader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${s3.deletion.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${s3.deletion.retry-backoff}")
+    private Duration retryBackoff;
+
+    // 게시물이 이미지 참조를 놓음 (호출한 트랜잭션이 커밋되어야 반영됨)
+    // 마지막 참조였다면 원본과 그로부터 만든 객체(변형 등)의 삭제를 예약
+    @Transactional
+    public void release(String imageUrl, Collection<String> derivedUrls) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return;
+        }
+
+        String key = s3Uploader.extractKeyFromUrl(imageUrl);
+        if (storedImageService.release(key) > 0) {
+            // 같은 이미지를 쓰는 다른 게시물이 남아 있음
+            return;
+        }
+
+        save(key, key);
+        derivedUrls.forEach(derivedUrl -> save(s3Uploader.extractKeyFromUrl(derivedUrl), key));
+        eventPublisher.publishEvent(new S3DeletionRequestedEvent());
+    }
+
+    // 원본 이미지에서 만든 객체의 삭제를 예약 (원본이 아직 참조 중이면 실제로는 삭제하지 않음)
+    @Transactional
+    public void enqueueDerived(String originalUrl, Collection<String> derivedUrls) {
+        if (derivedUrls.isEmpty()) {
+            return;
+        }
+
+        String refKey = s3Uploader.extractKeyFromUrl(originalUrl);
+        derivedUrls.forEach(derivedUrl -> save(s3Uploader.extractKeyFromUrl(derivedUrl), refKey));
+        eventPublisher.publishEvent(new S3DeletionRequestedEvent());
+    }
+
+    // 직접 업로드용으로 발급한 객체를 deleteAt에 삭제 (참조 중이면 건너뜀)
+    // 완료된 업로드는 서버 소유 키로 복사되므로 업로드 키 자체는 항상 삭제됨
+    @Transactional
+    public void enqueueUnlessReferenced(String objectKey, LocalDateTime deleteAt) {
+        s3DeletionTaskRepository.save(new S3DeletionTask(objectKey, objectKey, deleteAt));
+    }
+
+    // 삭제 시각이 된 작업 목록
+    public List<S3DeletionTask> findDue(int limit) {
+        return s3DeletionTaskRepository.findDue(LocalDateTime.now(), maxAttempts, PageRequest.of(0, limit));
+    }
+
+    // 작업 한 배치를 DeleteObjects 한 번으로 삭제
+    // 원본 참조 행을 잠근 채로 다시 확인하므로, 삭제가 끝나기 전에 같은 이미지를 올리는 요청은 참조를 얻기 위해 기다렸다가 다시 업로드함
+    @Transactional
+    public S3DeletionResult deleteBatch(List<S3DeletionTask> tasks) {
+        Set<String> refKeys = tasks.stream()
+                .map(S3DeletionTask::getRefKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> referenced = storedImageService.lockReferencedKeys(refKeys);
+
+        List<Long> skippedIds = new ArrayList<>();
+        List<S3DeletionTask> targets = new ArrayList<>();
+        for (S3DeletionTask task : tasks) {
+            if (task.getRefKey() != null && referenced.contains(task.getRefKey())) {
+                skippedIds.add(task.getId());
+            } else {
+                targets.add(task);
+            }
+        }
+
+        List<String> keys = targets.stream()
+                .map(S3DeletionTask::getObjectKey)
+                .distinct()
+                .toList();
+        Set<String> failedKeys = s3Uploader.deleteObjects(keys);
+
+        List<Long> deletedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (S3DeletionTask task : targets) {
+            if (failedKeys.contains(task.getObjectKey())) {
+                failedIds.add(task.getId());
+            } else {
+                deletedIds.add(task.getId());
+            }
+        }
+
+        List<Long> completedIds = new ArrayList<>(deletedIds);
+        completedIds.addAll(skippedIds);
+        if (!completedIds.isEmpty()) {
+            s3DeletionTaskRepository.deleteAllByIdInBatch(completedIds);
+        }
+        int abandoned = retry(failedIds);
+
+        return new S3DeletionResult(deletedIds.size(), skippedIds.size(), failedIds.size(), abandoned);
+    }
+
+    private void save(String objectKey, String refKey) {
+        s3DeletionTaskRepository.save(new S3DeletionTask(objectKey, refKey, LocalDateTime.now()));
+    }
+
+    // 삭제에 실패한 작업은 지수 백오프로 다시 예약
+    // 재시도 횟수를 넘긴 작업은 큐에 남겨두되 더 이상 조회되지 않음 (수동 확인용)
+    private int retry(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+
+        int abandoned = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (S3DeletionTask task : s3DeletionTaskRepository.findAllById(taskIds)) {
+            Duration backoff = retryBackoff.multipliedBy(1L << Math.min(task.getAttempts(), 16));
+            task.retry(now.plus(backoff));
+            if (task.getAttempts() >= maxAttempts) {
+                log.error("S3 객체 삭제 재시도 횟수 초과: {}", task.getObjectKey());
+                abandoned++;
+            }
+        }
+        return abandoned;
+    }
+}
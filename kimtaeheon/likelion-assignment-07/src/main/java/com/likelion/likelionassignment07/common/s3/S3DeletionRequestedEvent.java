@@ -0,0 +1,5 @@
+package com.likelion.likelionassignment07.common.s3;
+
+// 삭제 작업이 기록된 트랜잭션이 커밋되면 바로 큐를 비우도록 알림
+public record S3DeletionRequestedEvent() {
+}
@@ -0,0 +1,10 @@
+package com.likelion.likelionassignment07.common.s3;
+
+// 삭제 큐 한 배치의 처리 결과
+public record S3DeletionResult(
+        int deleted,    // S3에서 삭제됨
+        int skipped,    // 그 사이 다시 참조되어 삭제하지 않음
+        int failed,     // 삭제 실패, 재시도 예약
+        int abandoned   // 재시도 횟수 초과
+) {
+}
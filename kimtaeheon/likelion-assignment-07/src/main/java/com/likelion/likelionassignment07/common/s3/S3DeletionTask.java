@@ -0,0 +1,47 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제할 S3 객체 (게시물 변경과 같은 트랜잭션에 기록되고, 커밋 이후 S3DeletionWorker가 일괄 삭제)
+// DB가 롤백되면 작업도 함께 사라지므로 아직 쓰이는 이미지를 지우지 않음
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_deletion_task",
+        indexes = @Index(name = "idx_s3_deletion_task_next_attempt", columnList = "next_attempt_at"))
+public class S3DeletionTask {
+
+    @Id
+    @Column(name = "s3_deletion_task_id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "s3_deletion_task_seq_generator")
+    @SequenceGenerator(name = "s3_deletion_task_seq_generator", sequenceName = "s3_deletion_task_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    // 이 객체의 삭제 여부를 결정하는 원본 이미지 키 (원본이 다시 참조되면 삭제하지 않음), 없으면 항상 삭제
+    @Column(name = "ref_key")
+    private String refKey;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public S3DeletionTask(String objectKey, String refKey, LocalDateTime nextAttemptAt) {
+        this.objectKey = objectKey;
+        this.refKey = refKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void retry(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
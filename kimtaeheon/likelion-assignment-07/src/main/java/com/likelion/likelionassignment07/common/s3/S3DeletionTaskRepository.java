@@ -0,0 +1,20 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    // 삭제를 (재)시도할 시각이 지났고 재시도 횟수가 남은 작업
+    @Query("SELECT t FROM S3DeletionTask t " +
+            "WHERE t.nextAttemptAt <= :now AND t.attempts < :maxAttempts " +
+            "ORDER BY t.nextAttemptAt")
+    List<S3DeletionTask> findDue(@Param("now") LocalDateTime now,
+                                 @Param("maxAttempts") int maxAttempts,
+                                 Pageable pageable);
+}
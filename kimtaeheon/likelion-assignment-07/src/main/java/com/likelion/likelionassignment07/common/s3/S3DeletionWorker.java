@@ -0,0 +1,95 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// S3 삭제 큐를 요청 스레드 밖에서 비움
+// 커밋 직후 한 번, 그리고 실패 작업 재시도를 위해 주기적으로 실행
+@Slf4j
+@Component
+public class S3DeletionWorker {
+
+    // S3 DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final S3DeletionQueue s3DeletionQueue;
+    private final TaskScheduler taskScheduler;
+    private final int batchSize;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    private final Counter deletedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Counter abandonedCounter;
+    private final Timer batchTimer;
+
+    public S3DeletionWorker(
+            S3DeletionQueue s3DeletionQueue,
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${s3.deletion.batch-size}") int batchSize
+    ) {
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.taskScheduler = taskScheduler;
+        this.batchSize = Math.min(batchSize, MAX_KEYS_PER_REQUEST);
+
+        this.deletedCounter = Counter.builder("s3.deletion").tag("result", "deleted").register(meterRegistry);
+        this.skippedCounter = Counter.builder("s3.deletion").tag("result", "skipped").register(meterRegistry);
+        this.failedCounter = Counter.builder("s3.deletion").tag("result", "failed").register(meterRegistry);
+        this.abandonedCounter = Counter.builder("s3.deletion").tag("result", "abandoned").register(meterRegistry);
+        this.batchTimer = Timer.builder("s3.deletion.batch").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeletionRequested(S3DeletionRequestedEvent event) {
+        taskScheduler.schedule(this::drain, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${s3.deletion.sweep-interval-ms}")
+    public void drain() {
+        // 이미 비우는 중이면 그 실행이 새 작업까지 가져감
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            while (drainBatch()) {
+                // 가득 찬 배치를 처리했다면 남은 작업이 더 있을 수 있으므로 반복
+            }
+        } catch (RuntimeException e) {
+            log.error("S3 삭제 큐 처리 실패", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    // 작업 한 배치를 삭제하고, 배치가 가득 찼는지 반환
+    private boolean drainBatch() {
+        List<S3DeletionTask> tasks = s3DeletionQueue.findDue(batchSize);
+        if (tasks.isEmpty()) {
+            return false;
+        }
+
+        S3DeletionResult result = batchTimer.record(() -> s3DeletionQueue.deleteBatch(tasks));
+
+        deletedCounter.increment(result.deleted());
+        skippedCounter.increment(result.skipped());
+        failedCounter.increment(result.failed());
+        abandonedCounter.increment(result.abandoned());
+
+        return tasks.size() == batchSize;
+    }
+}
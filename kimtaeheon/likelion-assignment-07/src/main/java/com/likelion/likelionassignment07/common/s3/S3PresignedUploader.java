@@ -0,0 +1,86 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+// 클라이언트가 서버를 거치지 않고 S3에 직접 올리도록 서명된 URL 발급과 업로드 완료 처리
+// 파일 내용은 애플리케이션 서버를 지나지 않고, 여기서는 S3 메타데이터 요청만 보냄
+@Component
+@RequiredArgsConstructor
+public class S3PresignedUploader {
+
+    private final AmazonS3 amazonS3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 단일 PUT 업로드 URL (요청의 Content-Type이 서명에 포함되므로 클라이언트도 같은 값으로 보내야 함)
+    public String presignPut(String key, String contentType, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT);
+        request.setExpiration(Date.from(expiresAt));
+        request.setContentType(contentType);
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    // 멀티파트 업로드 시작 후 uploadId 반환
+    public String initiateMultipart(String key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        return amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata))
+                .getUploadId();
+    }
+
+    // 멀티파트 업로드의 파트 하나를 올리는 URL
+    public String presignPart(String key, String uploadId, int partNumber, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT);
+        request.setExpiration(Date.from(expiresAt));
+        request.addRequestParameter("uploadId", uploadId);
+        request.addRequestParameter("partNumber", String.valueOf(partNumber));
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    // 클라이언트가 올린 파트(번호, ETag)를 하나의 객체로 합침
+    public void completeMultipart(String key, String uploadId, List<PartETag> parts) {
+        amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, parts));
+    }
+
+    // 확인한 객체가 그 사이 바뀌지 않았을 때만(ETag 일치) 서버 소유 키로 복사, 바뀌었으면 false
+    // S3 안에서 복사하므로 파일 내용이 서버를 지나지 않음
+    public boolean copyIfUnchanged(String sourceKey, String targetKey, String eTag) {
+        CopyObjectRequest request = new CopyObjectRequest(bucket, sourceKey, bucket, targetKey)
+                .withMatchingETagConstraint(eTag);
+        return amazonS3.copyObject(request) != null;
+    }
+
+    // 객체 메타데이터 조회 (없으면 빈 값)
+    public Optional<ObjectMetadata> findMetadata(String key) {
+        try {
+            return Optional.of(amazonS3.getObjectMetadata(bucket, key));
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+}
@@ -1,64 +1,215 @@
 package com.likelion.likelionassignment07.common.s3;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import com.likelion.likelionassignment07.common.error.ErrorCode;
 import com.likelion.likelionassignment07.common.exception.BusinessException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class S3Uploader {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final StoredImageService storedImageService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
     // MultipartFile을 S3에 업로드 한 후, 해당 파일의 접근 URL을 반환
+    // 객체 키는 파일 내용의 SHA-256이므로 같은 이미지는 한 번만 저장되고, 호출할 때마다 참조가 하나 늘어남
+    // (참조는 S3DeletionQueue.release로 놓음)
+    // DB 트랜잭션 밖에서 호출할 것 (업로드 시간 동안 커넥션을 잡고 있지 않도록)
     public String upload(MultipartFile file, String dirName) {
-        // S3에 저장될 파일 경로 (디렉토리/UUID_원본파일명)
-        String fileName = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
         ObjectMetadata metadata = new ObjectMetadata();
 
+        // 메타데이터 설정
+        metadata.setContentLength(file.getSize()); // 파일 크기 설정
+        metadata.setContentType(file.getContentType()); // MIME 타입
+
+        long startNanos = System.nanoTime();
+        Path tempFile = null;
+        String fileName = null;
+        boolean acquired = false;
         try {
-            // 메타데이터 설정
-            metadata.setContentLength(file.getSize()); // 파일 크기 설정
-            metadata.setContentType(file.getContentType()); // MIME 타입
+            // 스트림은 순차로만 올라가므로 임시 파일로 옮긴 뒤 업로드 (파일이면 파트를 병렬 전송)
+            // 옮기면서 해시를 함께 계산하므로 파일 전체를 메모리에 올리지 않음
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            tempFile = Files.createTempFile("s3-upload-", ".tmp");
+            try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
 
-            // S3에 파일 업로드
-            amazonS3.putObject(bucket, fileName, file.getInputStream(), metadata);
-        } catch (IOException e) {
+            // S3에 저장될 파일 경로 (디렉토리/내용 해시)
+            fileName = dirName + "/" + HexFormat.of().formatHex(digest.digest());
+
+            // 참조를 먼저 얻어 두면 그 사이 같은 객체가 삭제되지 않음
+            storedImageService.acquire(fileName);
+            acquired = true;
+
+            if (amazonS3.doesObjectExist(bucket, fileName)) {
+                // 이미 같은 내용이 올라가 있으면 전송 생략
+                recordUpload(file.getSize(), System.nanoTime() - startNanos, "deduplicated");
+            } else {
+                // S3에 파일 업로드 (multipart-threshold 이상이면 멀티파트)
+                PutObjectRequest request = new PutObjectRequest(bucket, fileName, tempFile.toFile())
+                        .withMetadata(metadata);
+                transferManager.upload(request).waitForUploadResult();
+                recordUpload(file.getSize(), System.nanoTime() - startNanos, "success");
+            }
+        } catch (IOException | AmazonClientException | NoSuchAlgorithmException e) {
+            releaseQuietly(fileName, acquired);
+            recordUpload(file.getSize(), System.nanoTime() - startNanos, "failure");
+            log.error("S3 업로드 실패: {}", file.getOriginalFilename(), e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseQuietly(fileName, acquired);
+            recordUpload(file.getSize(), System.nanoTime() - startNanos, "failure");
             throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        } finally {
+            deleteTempFile(tempFile);
         }
 
         // 업로드 완료된 파일의 URL 반환
         return amazonS3.getUrl(bucket, fileName).toString();
     }
 
-    public void delete(String imageUrl) {
-        if (imageUrl == null || imageUrl.isEmpty()) {
+    // 업로드에 실패하면 미리 얻은 참조를 되돌림 (객체가 올라가지 않았으므로 삭제는 예약하지 않음)
+    private void releaseQuietly(String fileName, boolean acquired) {
+        if (!acquired) {
             return;
         }
+        try {
+            storedImageService.release(fileName);
+        } catch (RuntimeException e) {
+            log.warn("이미지 참조 해제 실패: {}", fileName, e);
+        }
+    }
+
+    // 메모리에 있는 작은 파일(이미지 변형 등)을 지정한 키로 업로드하고 URL 반환
+    public String uploadBytes(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
 
         try {
-            String key = extractKeyFromUrl(imageUrl);
-            amazonS3.deleteObject(bucket, key);
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.S3_DELETE_FAIL, ErrorCode.S3_DELETE_FAIL.getMessage());
+            amazonS3.putObject(bucket, key, new ByteArrayInputStream(bytes), metadata);
+        } catch (AmazonClientException e) {
+            log.error("S3 업로드 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    // 이미지 URL의 객체를 스트림으로 열기 (호출한 쪽에서 닫아야 함)
+    public InputStream openStream(String imageUrl) {
+        return amazonS3.getObject(bucket, extractKeyFromUrl(imageUrl)).getObjectContent();
+    }
+
+    // 여러 객체를 DeleteObjects 한 번으로 삭제 (최대 1000개), 삭제에 실패한 키 목록을 반환
+    public Set<String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true); // 성공한 키는 응답에서 생략
+        try {
+            amazonS3.deleteObjects(request);
+            return Set.of();
+        } catch (MultiObjectDeleteException e) {
+            // 일부 키만 실패한 경우
+            e.getErrors().forEach(error ->
+                    log.warn("S3 객체 삭제 실패: {} ({})", error.getKey(), error.getCode()));
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toSet());
+        } catch (AmazonClientException e) {
+            // 요청 자체가 실패하면 전체를 재시도
+            log.warn("S3 객체 일괄 삭제 요청 실패: {}건", keys.size(), e);
+            return new HashSet<>(keys);
+        }
+    }
+
+    // 업로드 소요 시간, 크기, 처리량(bytes/s) 기록
+    private void recordUpload(long sizeBytes, long elapsedNanos, String result) {
+        Timer.builder("s3.upload")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        // 처리량은 실제로 전송한 업로드만 기록
+        if (!"success".equals(result) || elapsedNanos <= 0) {
+            return;
+        }
+
+        DistributionSummary.builder("s3.upload.size")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(sizeBytes);
+
+        double bytesPerSecond = sizeBytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        DistributionSummary.builder("s3.upload.throughput")
+                .baseUnit("bytes/s")
+                .register(meterRegistry)
+                .record(bytesPerSecond);
+
+        log.debug("S3 업로드 완료: {} bytes, {} ms, {} bytes/s",
+                sizeBytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), (long) bytesPerSecond);
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", tempFile, e);
         }
     }
 
-    private String extractKeyFromUrl(String imageUrl) {
+    // 이미지 URL에서 S3 객체 키 추출
+    public String extractKeyFromUrl(String imageUrl) {
         try {
-            String key = imageUrl.substring(imageUrl.indexOf(".com/") + 5);
+            // 버킷 기본 URL(AWS는 https://bucket.s3.region.amazonaws.com/, S3 호환 서버는 endpoint/bucket/) 뒤가 키
+            String bucketUrl = amazonS3.getUrl(bucket, "").toString();
+            String key = imageUrl.startsWith(bucketUrl)
+                    ? imageUrl.substring(bucketUrl.length())
+                    : imageUrl.substring(imageUrl.indexOf(".com/") + 5);
             // URL 디코딩을 통해 한글 파일명 복원
             return java.net.URLDecoder.decode(key, "UTF-8");
         } catch (Exception e) {
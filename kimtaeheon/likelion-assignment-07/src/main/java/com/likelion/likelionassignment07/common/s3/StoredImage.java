@@ -0,0 +1,22 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 내용 해시로 이름 붙인 S3 이미지 객체와 그 객체를 사용하는 게시물 수
+// 같은 이미지를 여러 게시물이 올려도 객체는 하나만 두고, 마지막 참조가 사라질 때 삭제
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_image")
+public class StoredImage {
+
+    @Id
+    @Column(name = "object_key")
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+}
@@ -0,0 +1,34 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    // 참조 추가 (처음 올라온 이미지면 행 생성), 동시에 같은 이미지를 올려도 원자적으로 증가
+    @Modifying
+    @Query(value = "INSERT INTO stored_image (object_key, ref_count) VALUES (:objectKey, 1) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    void acquire(@Param("objectKey") String objectKey);
+
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount - 1 " +
+            "WHERE s.objectKey = :objectKey AND s.refCount > 0")
+    int release(@Param("objectKey") String objectKey);
+
+    @Query("SELECT s.refCount FROM StoredImage s WHERE s.objectKey = :objectKey")
+    Optional<Integer> findRefCount(@Param("objectKey") String objectKey);
+
+    // 삭제 직전 참조 수를 다시 확인하면서 행을 잠가, 삭제가 끝날 때까지 새 참조가 생기지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredImage s WHERE s.objectKey IN :objectKeys")
+    List<StoredImage> findAllForUpdate(@Param("objectKeys") Collection<String> objectKeys);
+}
@@ -0,0 +1,40 @@
+package com.likelion.likelionassignment07.common.s3;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 내용 주소 이미지 객체의 참조 수 관리
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StoredImageService {
+
+    private final StoredImageRepository storedImageRepository;
+
+    // 업로드 전에 참조를 먼저 얻어, 업로드하는 동안 같은 객체가 삭제되지 않도록 함
+    public void acquire(String objectKey) {
+        storedImageRepository.acquire(objectKey);
+    }
+
+    // 참조를 하나 줄이고 남은 참조 수를 반환 (참조 기록이 없는 이전 방식의 객체는 0)
+    public int release(String objectKey) {
+        storedImageRepository.release(objectKey);
+        return storedImageRepository.findRefCount(objectKey).orElse(0);
+    }
+
+    // 아직 참조 중인 객체 키 (호출한 트랜잭션이 끝날 때까지 해당 행을 잠금)
+    public Set<String> lockReferencedKeys(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return Set.of();
+        }
+        return storedImageRepository.findAllForUpdate(objectKeys).stream()
+                .filter(storedImage -> storedImage.getRefCount() > 0)
+                .map(StoredImage::getObjectKey)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,35 @@
+package com.likelion.likelionassignment07.common.template;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// 커서(키셋) 기반 목록 조회 요청
+// cursor는 이전 페이지 마지막 항목의 id (첫 페이지는 null), OFFSET 없이 id 조건으로 다음 페이지를 찾음
+public record CursorPageRequest(
+        Long cursor,
+        int size
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public static CursorPageRequest of(Long cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : Math.min(Math.max(size, 1), MAX_SIZE);
+        return new CursorPageRequest(cursor, pageSize);
+    }
+
+    // id 오름차순 목록에서 cursor 다음부터 (첫 페이지는 처음부터)
+    public long cursorAfter() {
+        return cursor == null ? 0L : cursor;
+    }
+
+    // id 내림차순 목록에서 cursor 다음부터 (첫 페이지는 가장 최신부터)
+    public long cursorBefore() {
+        return cursor == null ? Long.MAX_VALUE : cursor;
+    }
+
+    // 항상 첫 페이지(OFFSET 0)로 size만큼 조회, Slice가 size + 1건을 읽어 다음 페이지 여부를 판단
+    public Pageable toPageable(Sort sort) {
+        return PageRequest.of(0, size, sort);
+    }
+}
@@ -0,0 +1,44 @@
+package com.likelion.likelionassignment07.export.api;
+
+import com.likelion.likelionassignment07.export.application.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// 분석용 전체 데이터 내보내기 (한 줄에 JSON 객체 하나, application/x-ndjson)
+// 응답은 요청 스레드가 아닌 MVC 비동기 스레드에서 DB 결과를 읽는 대로 씀
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // 게시물 전체 (태그 포함)
+    @GetMapping(value = "/posts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ndjson(exportService::exportPosts);
+    }
+
+    // 회원 전체
+    @GetMapping(value = "/members", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMembers() {
+        return ndjson(exportService::exportMembers);
+    }
+
+    // 태그 전체
+    @GetMapping(value = "/tags", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTags() {
+        return ndjson(exportService::exportTags);
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,22 @@
+package com.likelion.likelionassignment07.export.api.dto.response;
+
+import com.likelion.likelionassignment07.member.domain.Member;
+import com.likelion.likelionassignment07.member.domain.Part;
+import lombok.Builder;
+
+@Builder
+public record MemberExportResponseDto(
+        Long memberId,
+        String name,
+        int age,
+        Part part
+) {
+    public static MemberExportResponseDto from(Member member) {
+        return MemberExportResponseDto.builder()
+                .memberId(member.getMemberId())
+                .name(member.getName())
+                .age(member.getAge())
+                .part(member.getPart())
+                .build();
+    }
+}
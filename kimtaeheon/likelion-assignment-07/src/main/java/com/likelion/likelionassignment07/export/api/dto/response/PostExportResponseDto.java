@@ -0,0 +1,18 @@
+package com.likelion.likelionassignment07.export.api.dto.response;
+
+import com.likelion.likelionassignment07.post.domain.TagStatus;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record PostExportResponseDto(
+        Long postId,
+        String title,
+        String contents,
+        String writer,
+        List<String> tags,
+        TagStatus tagStatus,
+        String imageUrl
+) {
+}
@@ -0,0 +1,140 @@
+package com.likelion.likelionassignment07.export.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.likelionassignment07.export.api.dto.response.MemberExportResponseDto;
+import com.likelion.likelionassignment07.export.api.dto.response.PostExportResponseDto;
+import com.likelion.likelionassignment07.member.domain.Member;
+import com.likelion.likelionassignment07.post.domain.TagStatus;
+import com.likelion.likelionassignment07.tag.api.dto.response.TagInfoResponseDto;
+import com.likelion.likelionassignment07.tag.domain.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// 전체 게시물/회원/태그를 NDJSON으로 내보냄 (분석용 일괄 추출)
+// 결과를 List로 모으지 않고 DB 커서에서 한 행씩 읽어 바로 응답 스트림에 씀
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    // MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 번에 받지 않고 행 단위로 스트리밍
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    // 이 건수마다 영속성 컨텍스트를 비워 읽은 엔티티가 쌓이지 않도록 함
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // 게시물 + 작성자 + 태그 이름
+    // 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 보낼 수 없어 지연 로딩 대신 조인 한 번으로 읽고,
+    // postId 순으로 정렬된 (게시물, 태그) 행을 게시물 단위로 묶어서 씀
+    public void exportPosts(OutputStream outputStream) throws IOException {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                "SELECT p.postId, p.title, p.contents, m.name, p.tagStatus, p.imageUrl, t.name " +
+                        "FROM Post p " +
+                        "JOIN p.member m " +
+                        "LEFT JOIN p.postTags pt " +
+                        "LEFT JOIN pt.tag t " +
+                        "ORDER BY p.postId, pt.id", Object[].class);
+
+        try (Stream<Object[]> rows = streaming(query).getResultStream();
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream)) {
+
+            PostExportResponseDto.PostExportResponseDtoBuilder current = null;
+            Long currentPostId = null;
+            List<String> tags = null;
+
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Long postId = (Long) row[0];
+
+                if (!Objects.equals(postId, currentPostId)) {
+                    if (current != null) {
+                        writer.write(current.tags(tags).build());
+                    }
+                    currentPostId = postId;
+                    tags = new ArrayList<>();
+                    current = PostExportResponseDto.builder()
+                            .postId(postId)
+                            .title((String) row[1])
+                            .contents((String) row[2])
+                            .writer((String) row[3])
+                            .tagStatus((TagStatus) row[4])
+                            .imageUrl((String) row[5]);
+                }
+
+                // 태그가 없는 게시물은 태그 이름이 null인 행 하나로 내려옴
+                if (row[6] != null) {
+                    tags.add((String) row[6]);
+                }
+            }
+
+            if (current != null) {
+                writer.write(current.tags(tags).build());
+            }
+            log.info("게시물 내보내기 완료: {}건", writer.getCount());
+        }
+    }
+
+    // 회원 전체
+    public void exportMembers(OutputStream outputStream) throws IOException {
+        TypedQuery<Member> query = entityManager.createQuery(
+                "SELECT m FROM Member m ORDER BY m.memberId", Member.class);
+
+        try (Stream<Member> members = streaming(query).getResultStream();
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream)) {
+
+            Iterator<Member> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                writer.write(MemberExportResponseDto.from(iterator.next()));
+                clearPeriodically(writer.getCount());
+            }
+            log.info("회원 내보내기 완료: {}건", writer.getCount());
+        }
+    }
+
+    // 태그 전체
+    public void exportTags(OutputStream outputStream) throws IOException {
+        TypedQuery<Tag> query = entityManager.createQuery(
+                "SELECT t FROM Tag t ORDER BY t.id", Tag.class);
+
+        try (Stream<Tag> tags = streaming(query).getResultStream();
+             NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream)) {
+
+            Iterator<Tag> iterator = tags.iterator();
+            while (iterator.hasNext()) {
+                writer.write(TagInfoResponseDto.from(iterator.next()));
+                clearPeriodically(writer.getCount());
+            }
+            log.info("태그 내보내기 완료: {}건", writer.getCount());
+        }
+    }
+
+    // 읽기 전용(스냅샷/더티 체킹 없음) + 행 단위 스트리밍
+    private <T> TypedQuery<T> streaming(TypedQuery<T> query) {
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAMING_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    private void clearPeriodically(long count) {
+        if (count % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.likelion.likelionassignment07.export.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 한 줄에 JSON 객체 하나씩 쓰는 NDJSON 출력
+// 행마다 flush하지 않고 일정 건수마다 flush하여 시스템 콜을 줄임 (응답 스트림은 닫지 않음)
+class NdjsonWriter implements Closeable {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+    private long count;
+
+    NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    void write(Object row) throws IOException {
+        objectWriter.writeValue(generator, row);
+        if (++count % FLUSH_INTERVAL == 0) {
+            generator.flush();
+        }
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
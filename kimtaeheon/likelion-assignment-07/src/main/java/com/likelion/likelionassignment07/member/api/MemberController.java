@@ -1,6 +1,7 @@
 package com.likelion.likelionassignment07.member.api;
 
 import com.likelion.likelionassignment07.common.error.SuccessCode;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
 import com.likelion.likelionassignment07.common.template.ApiResTemplate;
 import com.likelion.likelionassignment07.member.api.dto.request.MemberSaveRequestDto;
 import com.likelion.likelionassignment07.member.api.dto.request.MemberUpdateRequestDto;
@@ -27,10 +28,11 @@ public class MemberController {
         return ApiResTemplate.successWithNoContent(SuccessCode.MEMBER_SAVE_SUCCESS);
     }
 
-    // 사용자 전체 조회
+    // 사용자 목록 조회 (?cursor=이전 응답의 nextCursor&size=20)
     @GetMapping("/all")
-    public ApiResTemplate<MemberListResponseDto> memberFindAll() {
-        MemberListResponseDto memberListResponseDto = memberService.memberFindAll();
+    public ApiResTemplate<MemberListResponseDto> memberFindAll(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                               @RequestParam(value = "size", required = false) Integer size) {
+        MemberListResponseDto memberListResponseDto = memberService.memberFindAll(CursorPageRequest.of(cursor, size));
         return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, memberListResponseDto);
     }
 
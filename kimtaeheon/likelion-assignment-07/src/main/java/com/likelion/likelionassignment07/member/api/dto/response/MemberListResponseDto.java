@@ -5,11 +5,13 @@ import java.util.List;
 
 @Builder
 public record MemberListResponseDto(
-        List<MemberInfoResponseDto> members
+        List<MemberInfoResponseDto> members,
+        Long nextCursor // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
 ) {
-    public static MemberListResponseDto from(List<MemberInfoResponseDto> members) {
+    public static MemberListResponseDto from(List<MemberInfoResponseDto> members, Long nextCursor) {
         return MemberListResponseDto.builder()
                 .members(members)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
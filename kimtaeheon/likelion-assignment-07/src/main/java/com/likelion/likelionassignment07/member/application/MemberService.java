@@ -2,6 +2,7 @@ package com.likelion.likelionassignment07.member.application;
 
 import com.likelion.likelionassignment07.common.error.ErrorCode;
 import com.likelion.likelionassignment07.common.exception.BusinessException;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
 import com.likelion.likelionassignment07.member.api.dto.request.MemberSaveRequestDto;
 import com.likelion.likelionassignment07.member.api.dto.request.MemberUpdateRequestDto;
 import com.likelion.likelionassignment07.member.api.dto.response.MemberInfoResponseDto;
@@ -9,6 +10,8 @@ import com.likelion.likelionassignment07.member.api.dto.response.MemberListRespo
 import com.likelion.likelionassignment07.member.domain.Member;
 import com.likelion.likelionassignment07.member.domain.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -30,13 +33,18 @@ public class MemberService {
         memberRepository.save(member);
     }
 
-    // 사용자 모두 조회
-    public MemberListResponseDto memberFindAll() {
-        List<Member> members = memberRepository.findAll();
-        List<MemberInfoResponseDto> memberInfoResponseDtoList = members.stream()
+    // 사용자 목록 조회 (id 순, 커서 기반)
+    public MemberListResponseDto memberFindAll(CursorPageRequest pageRequest) {
+        Slice<Member> members = memberRepository.findByMemberIdGreaterThan(
+                pageRequest.cursorAfter(), pageRequest.toPageable(Sort.by("memberId")));
+
+        List<Member> content = members.getContent();
+        Long nextCursor = members.hasNext() ? content.get(content.size() - 1).getMemberId() : null;
+
+        List<MemberInfoResponseDto> memberInfoResponseDtoList = content.stream()
                 .map(MemberInfoResponseDto::from)
                 .toList();
-        return MemberListResponseDto.from(memberInfoResponseDtoList);
+        return MemberListResponseDto.from(memberInfoResponseDtoList, nextCursor);
     }
 
     // 단일 사용자 조회
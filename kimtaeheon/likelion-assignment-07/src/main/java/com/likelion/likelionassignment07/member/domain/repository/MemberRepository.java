@@ -1,7 +1,12 @@
 package com.likelion.likelionassignment07.member.domain.repository;
 
 import com.likelion.likelionassignment07.member.domain.Member;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    // 키셋 페이지: cursor보다 큰 id부터 (정렬은 pageable로 memberId 오름차순)
+    Slice<Member> findByMemberIdGreaterThan(Long cursor, Pageable pageable);
 }
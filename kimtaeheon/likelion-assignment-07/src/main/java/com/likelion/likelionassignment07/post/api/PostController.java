@@ -1,23 +1,33 @@
 package com.likelion.likelionassignment07.post.api;
 
 import com.likelion.likelionassignment07.common.error.SuccessCode;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
 import com.likelion.likelionassignment07.common.template.ApiResTemplate;
+import com.likelion.likelionassignment07.post.api.dto.request.PostBulkSaveRequestDto;
+import com.likelion.likelionassignment07.post.api.dto.request.PostImageFinalizeRequestDto;
+import com.likelion.likelionassignment07.post.api.dto.request.PostImageUploadRequestDto;
 import com.likelion.likelionassignment07.post.api.dto.request.PostSaveRequestDto;
 import com.likelion.likelionassignment07.post.api.dto.request.PostUpdateRequestDto;
+import com.likelion.likelionassignment07.post.api.dto.response.PostBulkSaveResponseDto;
+import com.likelion.likelionassignment07.post.api.dto.response.PostImageUploadResponseDto;
 import com.likelion.likelionassignment07.post.api.dto.response.PostInfoResponseDto;
 import com.likelion.likelionassignment07.post.api.dto.response.PostListResponseDto;
+import com.likelion.likelionassignment07.post.application.PostImageUploadService;
 import com.likelion.likelionassignment07.post.application.PostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/post")
 public class PostController {
 
     private final PostService postService;
+    private final PostImageUploadService postImageUploadService;
 
     // 게시물 저장
     @PostMapping("/save")
@@ -27,10 +37,57 @@ public class PostController {
         return ApiResTemplate.successResponse(SuccessCode.POST_SAVE_SUCCESS, postInfoResponseDto);
     }
 
-    // 사용자 id를 기준으로 해당 사용자가 작성한 게시글 목록 조회
+    // 게시글 일괄 저장 (posts: JSON, images: 이미지 파일들, 각 게시물의 imageIndex로 연결)
+    // 일부 항목이 실패해도 나머지는 저장되며, 항목별 결과를 반환
+    @PostMapping("/save/bulk")
+    public ApiResTemplate<PostBulkSaveResponseDto> postSaveBulk(@RequestPart("posts") @Valid PostBulkSaveRequestDto postBulkSaveRequestDto,
+                                                                @RequestPart(value = "images", required = false) List<MultipartFile> images) {
+        PostBulkSaveResponseDto postBulkSaveResponseDto = postService.postSaveBulk(postBulkSaveRequestDto, images);
+        return ApiResTemplate.successResponse(SuccessCode.POST_BULK_SAVE_SUCCESS, postBulkSaveResponseDto);
+    }
+
+    // 사용자 id를 기준으로 해당 사용자가 작성한 게시글 목록 조회 (최신순, ?cursor=이전 응답의 nextCursor&size=20)
     @GetMapping("/{memberId}")
-    public ApiResTemplate<PostListResponseDto> myPostFindAll(@PathVariable("memberId") Long memberId) {
-        PostListResponseDto postListResponseDto = postService.postFindMember(memberId);
+    public ApiResTemplate<PostListResponseDto> myPostFindAll(@PathVariable("memberId") Long memberId,
+                                                             @RequestParam(value = "cursor", required = false) Long cursor,
+                                                             @RequestParam(value = "size", required = false) Integer size) {
+        PostListResponseDto postListResponseDto = postService.postFindMember(memberId, CursorPageRequest.of(cursor, size));
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, postListResponseDto);
+    }
+
+    // 태그 id를 기준으로 해당 태그가 달린 게시글 목록 조회 (최신순, ?cursor=이전 응답의 nextCursor&size=20)
+    @GetMapping("/tag/{tagId}")
+    public ApiResTemplate<PostListResponseDto> postFindTag(@PathVariable("tagId") Long tagId,
+                                                           @RequestParam(value = "cursor", required = false) Long cursor,
+                                                           @RequestParam(value = "size", required = false) Integer size) {
+        PostListResponseDto postListResponseDto = postService.postFindTag(tagId, CursorPageRequest.of(cursor, size));
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, postListResponseDto);
+    }
+
+    // 태그 조합으로 게시글 목록 조회 (최신순, 예: /post/tags?all=1,2&any=3,4&none=5&cursor=이전 응답의 nextCursor&size=20)
+    @GetMapping("/tags")
+    public ApiResTemplate<PostListResponseDto> postFindTags(@RequestParam(value = "all", required = false) List<Long> all,
+                                                            @RequestParam(value = "any", required = false) List<Long> any,
+                                                            @RequestParam(value = "none", required = false) List<Long> none,
+                                                            @RequestParam(value = "cursor", required = false) Long cursor,
+                                                            @RequestParam(value = "size", required = false) Integer size) {
+        PostListResponseDto postListResponseDto = postService.postFindTags(all, any, none, CursorPageRequest.of(cursor, size));
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, postListResponseDto);
+    }
+
+    // 태그가 많이 겹치는 관련 게시글 목록 조회 (유사도순, 예: /post/3/related?size=10)
+    @GetMapping("/{postId}/related")
+    public ApiResTemplate<PostListResponseDto> postFindRelated(@PathVariable("postId") Long postId,
+                                                               @RequestParam(value = "size", required = false) Integer size) {
+        PostListResponseDto postListResponseDto = postService.postFindRelated(postId, CursorPageRequest.of(null, size));
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, postListResponseDto);
+    }
+
+    // 제목/본문 검색 (관련도순, 예: /post/search?q=스프링&size=20)
+    @GetMapping("/search")
+    public ApiResTemplate<PostListResponseDto> postSearch(@RequestParam("q") String query,
+                                                          @RequestParam(value = "size", required = false) Integer size) {
+        PostListResponseDto postListResponseDto = postService.postSearch(query, CursorPageRequest.of(null, size));
         return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, postListResponseDto);
     }
 
@@ -57,4 +114,21 @@ public class PostController {
         PostInfoResponseDto response = postService.deletePostImage(postId);
         return ApiResTemplate.successResponse(SuccessCode.POST_IMAGE_DELETE_SUCCESS, response);
     }
+
+    // 이미지 직접 업로드 URL 발급 (클라이언트가 S3에 바로 PUT)
+    @PostMapping("/image/upload-url")
+    public ApiResTemplate<PostImageUploadResponseDto> issueImageUpload(
+            @RequestBody @Valid PostImageUploadRequestDto postImageUploadRequestDto) {
+        PostImageUploadResponseDto response = postImageUploadService.issue(postImageUploadRequestDto);
+        return ApiResTemplate.successResponse(SuccessCode.POST_IMAGE_UPLOAD_URL_SUCCESS, response);
+    }
+
+    // 직접 업로드한 이미지를 확인하고 게시물에 등록 (기존 이미지는 교체)
+    @PostMapping("/{postId}/image")
+    public ApiResTemplate<PostInfoResponseDto> attachUploadedImage(
+            @PathVariable("postId") Long postId,
+            @RequestBody @Valid PostImageFinalizeRequestDto postImageFinalizeRequestDto) {
+        PostInfoResponseDto response = postService.attachUploadedImage(postId, postImageFinalizeRequestDto);
+        return ApiResTemplate.successResponse(SuccessCode.POST_IMAGE_UPLOAD_SUCCESS, response);
+    }
 }
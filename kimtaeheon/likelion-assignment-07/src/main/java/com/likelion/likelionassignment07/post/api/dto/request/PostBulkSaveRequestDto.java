@@ -0,0 +1,21 @@
+package com.likelion.likelionassignment07.post.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+// 항목별 유효성 검사는 서비스에서 수행 (잘못된 항목만 실패로 기록하고 나머지는 저장)
+public record PostBulkSaveRequestDto(
+        @NotEmpty(message = "저장할 게시물을 입력해야 합니다.")
+        List<Item> posts
+) {
+    public record Item(
+            Long memberId,
+            String title,
+            String contents,
+            Integer imageIndex // images 파트에서 이 게시물 이미지의 순서 (0부터), 이미지가 없으면 null
+    ) {
+        public PostSaveRequestDto toSaveRequest() {
+            return new PostSaveRequestDto(memberId, title, contents);
+        }
+    }
+}
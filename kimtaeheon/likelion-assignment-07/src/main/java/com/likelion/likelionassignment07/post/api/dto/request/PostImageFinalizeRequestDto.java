@@ -0,0 +1,27 @@
+package com.likelion.likelionassignment07.post.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+
+public record PostImageFinalizeRequestDto(
+        @NotBlank(message = "업로드한 이미지 key를 필수로 입력해야 합니다.")
+        String key,
+        String uploadId, // 멀티파트 업로드일 때만
+        @Valid
+        List<Part> parts // 멀티파트 업로드일 때 올린 파트 번호와 응답의 ETag
+) {
+    public record Part(
+            @NotNull @Positive
+            Integer partNumber,
+            @NotBlank
+            String eTag
+    ) {
+    }
+
+    public boolean isMultipart() {
+        return uploadId != null && !uploadId.isBlank();
+    }
+}
@@ -0,0 +1,16 @@
+package com.likelion.likelionassignment07.post.api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+public record PostImageUploadRequestDto(
+        @NotBlank(message = "이미지 형식을 필수로 입력해야 합니다.")
+        @Pattern(regexp = "image/[\\w.+-]+", message = "이미지 형식(image/*)만 업로드할 수 있습니다.")
+        String contentType,
+        @NotNull(message = "이미지 크기를 필수로 입력해야 합니다.")
+        @Positive
+        Long contentLength
+) {
+}
@@ -0,0 +1,41 @@
+package com.likelion.likelionassignment07.post.api.dto.response;
+
+import com.likelion.likelionassignment07.common.error.ErrorCode;
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record PostBulkSaveResponseDto(
+        int savedCount,
+        int failedCount,
+        List<Result> results // 요청 순서와 같음
+) {
+    public static PostBulkSaveResponseDto from(List<Result> results) {
+        int savedCount = (int) results.stream().filter(Result::saved).count();
+        return PostBulkSaveResponseDto.builder()
+                .savedCount(savedCount)
+                .failedCount(results.size() - savedCount)
+                .results(results)
+                .build();
+    }
+
+    // 저장되면 postId, 실패하면 code와 message
+    public record Result(
+            int index,
+            Long postId,
+            String code,
+            String message
+    ) {
+        public static Result saved(int index, Long postId) {
+            return new Result(index, postId, null, null);
+        }
+
+        public static Result failed(int index, ErrorCode errorCode, String message) {
+            return new Result(index, null, errorCode.getCode(), message);
+        }
+
+        public boolean saved() {
+            return postId != null;
+        }
+    }
+}
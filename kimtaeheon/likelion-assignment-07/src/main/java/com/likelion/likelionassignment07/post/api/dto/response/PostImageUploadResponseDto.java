@@ -0,0 +1,42 @@
+package com.likelion.likelionassignment07.post.api.dto.response;
+
+import lombok.Builder;
+import java.time.Instant;
+import java.util.List;
+
+// 직접 업로드용 URL
+// 단일 업로드면 uploadUrl로 PUT, 멀티파트면 partSize씩 잘라 partUrls에 순서대로 PUT 한 뒤 ETag를 모아 완료 요청
+@Builder
+public record PostImageUploadResponseDto(
+        String key,
+        String uploadUrl,
+        String uploadId,
+        Long partSize,
+        List<PartUrl> partUrls,
+        Instant expiresAt
+) {
+    public record PartUrl(
+            int partNumber,
+            String url
+    ) {
+    }
+
+    public static PostImageUploadResponseDto single(String key, String uploadUrl, Instant expiresAt) {
+        return PostImageUploadResponseDto.builder()
+                .key(key)
+                .uploadUrl(uploadUrl)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public static PostImageUploadResponseDto multipart(String key, String uploadId, long partSize,
+                                                        List<PartUrl> partUrls, Instant expiresAt) {
+        return PostImageUploadResponseDto.builder()
+                .key(key)
+                .uploadId(uploadId)
+                .partSize(partSize)
+                .partUrls(partUrls)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
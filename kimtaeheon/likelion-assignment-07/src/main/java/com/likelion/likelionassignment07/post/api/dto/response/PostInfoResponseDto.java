@@ -1,8 +1,10 @@
 package com.likelion.likelionassignment07.post.api.dto.response;
 
 import com.likelion.likelionassignment07.post.domain.Post;
+import com.likelion.likelionassignment07.post.domain.TagStatus;
 import lombok.Builder;
 import java.util.List;
+import java.util.Map;
 
 @Builder
 public record PostInfoResponseDto(
@@ -10,7 +12,9 @@ public record PostInfoResponseDto(
         String contents,
         String writer,
         List<String> tags,
-        String imageUrl
+        TagStatus tagStatus,
+        String imageUrl,
+        Map<String, String> imageVariants // 줄인 이미지 URL (w320, w640, ...), 생성 전이면 비어 있음
 ) {
     public static PostInfoResponseDto from(Post post) {
         return PostInfoResponseDto.builder()
@@ -22,7 +26,9 @@ public record PostInfoResponseDto(
                                 .map(postTag -> postTag.getTag().getName())
                                 .toList()
                 )
+                .tagStatus(post.getTagStatus())
                 .imageUrl(post.getImageUrl())
+                .imageVariants(Map.copyOf(post.getImageVariants()))
                 .build();
     }
 }
@@ -5,11 +5,13 @@ import java.util.List;
 
 @Builder
 public record PostListResponseDto(
-        List<PostInfoResponseDto> posts
+        List<PostInfoResponseDto> posts,
+        Long nextCursor // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
 ) {
-    public static PostListResponseDto from(List<PostInfoResponseDto> posts) {
+    public static PostListResponseDto from(List<PostInfoResponseDto> posts, Long nextCursor) {
         return PostListResponseDto.builder()
                 .posts(posts)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
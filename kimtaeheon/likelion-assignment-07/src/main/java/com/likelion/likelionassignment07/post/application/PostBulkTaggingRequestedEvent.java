@@ -0,0 +1,9 @@
+package com.likelion.likelionassignment07.post.application;
+
+import java.util.List;
+
+// 일괄 저장 트랜잭션이 커밋된 뒤 chunk 단위로 추천 태그 등록을 요청하는 이벤트
+public record PostBulkTaggingRequestedEvent(
+        List<Long> postIds
+) {
+}
@@ -0,0 +1,76 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.common.s3.S3DeletionQueue;
+import com.likelion.likelionassignment07.post.domain.Post;
+import com.likelion.likelionassignment07.post.domain.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+// 게시물 이미지(원본 + 변형)의 교체/삭제와 변형 생성 결과 반영
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostImageService {
+
+    private final PostRepository postRepository;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 커밋 이후 변형 이미지를 생성하도록 이벤트 발행
+    @Transactional
+    public void requestVariants(Post post) {
+        requestVariants(post.getPostId(), post.getImageUrl());
+    }
+
+    // 엔티티 없이 JDBC로 저장한 게시물용 (일괄 저장)
+    @Transactional
+    public void requestVariants(Long postId, String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new PostImageUploadedEvent(postId, imageUrl));
+    }
+
+    // 기존 원본과 변형은 삭제 큐에 넣고 새 이미지로 교체 (null이면 이미지 제거)
+    @Transactional
+    public void replaceImage(Post post, String newImageUrl) {
+        discardImages(post);
+        post.updateImage(newImageUrl);
+        requestVariants(post);
+    }
+
+    // 게시물이 원본 이미지 참조를 놓음
+    // 같은 이미지를 쓰는 게시물이 더 없으면 원본과 변형 삭제 예약 (커밋 이후 삭제 큐에서 처리)
+    @Transactional
+    public void discardImages(Post post) {
+        s3DeletionQueue.release(post.getImageUrl(), post.getImageVariants().values());
+    }
+
+    // 생성된 변형을 게시물에 반영
+    // 그 사이 이미지가 바뀌었거나 게시물이 삭제되었다면 방금 만든 변형은 삭제
+    @Transactional
+    public void applyVariants(Long postId, String imageUrl, Map<String, String> variants) {
+        Post post = postRepository.findById(postId)
+                .filter(found -> Objects.equals(found.getImageUrl(), imageUrl))
+                .orElse(null);
+
+        if (post == null) {
+            discardVariants(imageUrl, variants.values());
+            return;
+        }
+        post.updateImageVariants(variants);
+    }
+
+    // 게시물에 반영되지 않은 변형 이미지 삭제 예약
+    // 변형은 원본 내용으로 이름이 정해지므로, 같은 원본을 쓰는 게시물이 남아 있으면 삭제하지 않음
+    @Transactional
+    public void discardVariants(String imageUrl, Collection<String> variantUrls) {
+        s3DeletionQueue.enqueueDerived(imageUrl, variantUrls);
+    }
+}
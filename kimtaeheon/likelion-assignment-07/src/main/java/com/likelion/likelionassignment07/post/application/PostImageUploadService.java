@@ -0,0 +1,183 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.likelion.likelionassignment07.common.error.ErrorCode;
+import com.likelion.likelionassignment07.common.exception.BusinessException;
+import com.likelion.likelionassignment07.common.s3.S3DeletionQueue;
+import com.likelion.likelionassignment07.common.s3.S3PresignedUploader;
+import com.likelion.likelionassignment07.common.s3.StoredImageService;
+import com.likelion.likelionassignment07.post.api.dto.request.PostImageFinalizeRequestDto;
+import com.likelion.likelionassignment07.post.api.dto.request.PostImageUploadRequestDto;
+import com.likelion.likelionassignment07.post.api.dto.response.PostImageUploadResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// 게시물 이미지 직접 업로드 (클라이언트 -> S3)
+// 서버는 서명된 URL만 발급하고, 완료 요청에서 객체를 확인한 뒤 서버 소유 키로 복사하고 그 키의 참조를 얻음
+// 서명된 URL은 만료 전까지 다시 쓸 수 있으므로 업로드 키를 게시물 이미지로 쓰지 않음 (업로드 키는 만료 후 삭제됨)
+@Slf4j
+@Service
+public class PostImageUploadService {
+
+    private static final String DIR_NAME = "post-images";
+    private static final String UPLOAD_DIR_NAME = DIR_NAME + "/uploads";
+    // 직접 업로드 키는 서버가 발급한 UUID만 허용 (게시물 이미지 키나 다른 경로의 객체를 가져다 쓰지 못하도록)
+    private static final Pattern UPLOAD_KEY = Pattern.compile(UPLOAD_DIR_NAME + "/[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}");
+    // S3 멀티파트 업로드의 최대 파트 수
+    private static final int MAX_PARTS = 10_000;
+
+    private final S3PresignedUploader s3PresignedUploader;
+    private final StoredImageService storedImageService;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final Duration expiry;
+    private final Duration cleanupGrace;
+    private final long maxSize;
+    private final long multipartThreshold;
+    private final long partSize;
+
+    public PostImageUploadService(S3PresignedUploader s3PresignedUploader,
+                                  StoredImageService storedImageService,
+                                  S3DeletionQueue s3DeletionQueue,
+                                  @Value("${s3.presigned.expiry}") Duration expiry,
+                                  @Value("${s3.presigned.cleanup-grace}") Duration cleanupGrace,
+                                  @Value("${s3.presigned.max-size}") DataSize maxSize,
+                                  @Value("${s3.upload.multipart-threshold}") DataSize multipartThreshold,
+                                  @Value("${s3.upload.part-size}") DataSize partSize) {
+        this.s3PresignedUploader = s3PresignedUploader;
+        this.storedImageService = storedImageService;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.expiry = expiry;
+        this.cleanupGrace = cleanupGrace;
+        this.maxSize = maxSize.toBytes();
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = partSize.toBytes();
+    }
+
+    // 업로드 URL 발급 (multipart-threshold 이상이면 파트별 URL)
+    // 완료 요청이 오지 않은 객체는 만료 후 cleanup-grace가 지나면 삭제 큐에서 지움
+    public PostImageUploadResponseDto issue(PostImageUploadRequestDto request) {
+        if (request.contentLength() > maxSize) {
+            throw new BusinessException(ErrorCode.IMAGE_UPLOAD_INVALID,
+                    ErrorCode.IMAGE_UPLOAD_INVALID.getMessage() + "max size = " + maxSize);
+        }
+
+        String key = UPLOAD_DIR_NAME + "/" + UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(expiry);
+        s3DeletionQueue.enqueueUnlessReferenced(key, LocalDateTime.now().plus(expiry).plus(cleanupGrace));
+
+        try {
+            if (request.contentLength() < multipartThreshold) {
+                String uploadUrl = s3PresignedUploader.presignPut(key, request.contentType(), expiresAt);
+                return PostImageUploadResponseDto.single(key, uploadUrl, expiresAt);
+            }
+
+            long size = Math.max(partSize, ceilDiv(request.contentLength(), MAX_PARTS));
+            int partCount = (int) ceilDiv(request.contentLength(), size);
+            String uploadId = s3PresignedUploader.initiateMultipart(key, request.contentType());
+
+            List<PostImageUploadResponseDto.PartUrl> partUrls = new ArrayList<>(partCount);
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                partUrls.add(new PostImageUploadResponseDto.PartUrl(
+                        partNumber, s3PresignedUploader.presignPart(key, uploadId, partNumber, expiresAt)));
+            }
+            return PostImageUploadResponseDto.multipart(key, uploadId, size, partUrls, expiresAt);
+        } catch (AmazonClientException e) {
+            log.error("이미지 업로드 URL 발급 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+    }
+
+    // 업로드 완료 확인 후 서버 소유 키로 복사하고, 복사본의 참조를 얻어 이미지 URL 반환 (참조는 S3DeletionQueue.release로 놓음)
+    // 업로드 키는 참조하지 않으므로 형식이나 크기와 상관없이 만료 후 삭제됨
+    public String confirm(PostImageFinalizeRequestDto request) {
+        String key = request.key();
+        if (!UPLOAD_KEY.matcher(key).matches()) {
+            throw new BusinessException(ErrorCode.IMAGE_UPLOAD_INVALID,
+                    ErrorCode.IMAGE_UPLOAD_INVALID.getMessage() + "key = " + key);
+        }
+
+        if (request.isMultipart()) {
+            completeMultipart(request);
+        }
+
+        String imageKey = DIR_NAME + "/" + UUID.randomUUID();
+        storedImageService.acquire(imageKey);
+        try {
+            ObjectMetadata metadata = s3PresignedUploader.findMetadata(key)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_UPLOAD_NOT_FOUND,
+                            ErrorCode.IMAGE_UPLOAD_NOT_FOUND.getMessage() + key));
+            validate(metadata);
+
+            // 확인한 뒤 같은 URL로 다시 올린 객체는 ETag가 달라지므로 복사되지 않음
+            if (!s3PresignedUploader.copyIfUnchanged(key, imageKey, metadata.getETag())) {
+                throw new BusinessException(ErrorCode.IMAGE_UPLOAD_INVALID,
+                        ErrorCode.IMAGE_UPLOAD_INVALID.getMessage() + "object changed during confirmation");
+            }
+            return s3PresignedUploader.getUrl(imageKey);
+        } catch (BusinessException e) {
+            storedImageService.release(imageKey);
+            throw e;
+        } catch (AmazonClientException e) {
+            storedImageService.release(imageKey);
+            log.error("업로드된 이미지 확인 실패: {}", key, e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+    }
+
+    private void completeMultipart(PostImageFinalizeRequestDto request) {
+        if (request.parts() == null || request.parts().isEmpty()) {
+            throw new BusinessException(ErrorCode.IMAGE_UPLOAD_INVALID,
+                    ErrorCode.IMAGE_UPLOAD_INVALID.getMessage() + "parts are required");
+        }
+
+        List<PartETag> parts = request.parts().stream()
+                .sorted(Comparator.comparing(PostImageFinalizeRequestDto.Part::partNumber))
+                .map(part -> new PartETag(part.partNumber(), part.eTag()))
+                .toList();
+        try {
+            s3PresignedUploader.completeMultipart(request.key(), request.uploadId(), parts);
+        } catch (AmazonServiceException e) {
+            // 잘못된 uploadId/ETag 등 요청 오류
+            if (e.getErrorType() == AmazonServiceException.ErrorType.Client) {
+                throw new BusinessException(ErrorCode.IMAGE_UPLOAD_INVALID,
+                        ErrorCode.IMAGE_UPLOAD_INVALID.getMessage() + e.getErrorCode());
+            }
+            log.error("멀티파트 업로드 완료 실패: {}", request.key(), e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        } catch (AmazonClientException e) {
+            log.error("멀티파트 업로드 완료 실패: {}", request.key(), e);
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAIL, ErrorCode.S3_UPLOAD_FAIL.getMessage());
+        }
+    }
+
+    // 서명된 PUT은 크기를 제한할 수 없으므로 올라온 객체를 확인
+    private void validate(ObjectMetadata metadata) {
+        if (metadata.getContentLength() > maxSize) {
+            throw new BusinessException(ErrorCode.IMAGE_UPLOAD_INVALID,
+                    ErrorCode.IMAGE_UPLOAD_INVALID.getMessage() + "max size = " + maxSize);
+        }
+        String contentType = metadata.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new BusinessException(ErrorCode.IMAGE_UPLOAD_INVALID,
+                    ErrorCode.IMAGE_UPLOAD_INVALID.getMessage() + "content type = " + contentType);
+        }
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
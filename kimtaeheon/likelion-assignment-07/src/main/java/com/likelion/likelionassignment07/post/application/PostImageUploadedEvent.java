@@ -0,0 +1,5 @@
+package com.likelion.likelionassignment07.post.application;
+
+// 게시물 이미지가 저장/교체된 트랜잭션이 커밋되면 변형 이미지를 생성하도록 알림
+public record PostImageUploadedEvent(Long postId, String imageUrl) {
+}
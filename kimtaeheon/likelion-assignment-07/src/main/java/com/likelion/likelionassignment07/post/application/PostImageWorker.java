@@ -0,0 +1,87 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.common.image.ImageResizer;
+import com.likelion.likelionassignment07.common.s3.S3Uploader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 커밋된 게시물 이미지의 변형(축소 JPEG)을 제한된 스레드 풀에서 생성
+// 변형이 없거나 생성에 실패한 게시물은 원본 이미지를 그대로 사용
+@Slf4j
+@Component
+public class PostImageWorker {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final PostImageService postImageService;
+    private final S3Uploader s3Uploader;
+    private final ImageResizer imageResizer;
+    private final ThreadPoolTaskExecutor executor;
+    private final List<Integer> variantWidths;
+
+    public PostImageWorker(
+            PostImageService postImageService,
+            S3Uploader s3Uploader,
+            ImageResizer imageResizer,
+            @Qualifier("postImageExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${post.image.variant-widths}") List<Integer> variantWidths
+    ) {
+        this.postImageService = postImageService;
+        this.s3Uploader = s3Uploader;
+        this.imageResizer = imageResizer;
+        this.executor = executor;
+        this.variantWidths = variantWidths;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImageUploaded(PostImageUploadedEvent event) {
+        try {
+            executor.execute(() -> process(event));
+        } catch (TaskRejectedException e) {
+            // 큐가 가득 차면 변형 없이 원본만 사용
+            log.warn("이미지 처리 큐가 가득 차 게시물 {} 변형 생성을 건너뜁니다.", event.postId());
+        }
+    }
+
+    private void process(PostImageUploadedEvent event) {
+        Map<String, String> variants = new LinkedHashMap<>();
+        try (InputStream original = s3Uploader.openStream(event.imageUrl())) {
+            String originalKey = s3Uploader.extractKeyFromUrl(event.imageUrl());
+            Map<Integer, byte[]> resized = imageResizer.resize(original, variantWidths);
+
+            for (Map.Entry<Integer, byte[]> entry : resized.entrySet()) {
+                String key = variantKey(originalKey, entry.getKey());
+                variants.put("w" + entry.getKey(), s3Uploader.uploadBytes(key, entry.getValue(), VARIANT_CONTENT_TYPE));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("게시물 {} 이미지 변형 생성 실패: {}", event.postId(), e.getMessage());
+            // 일부만 올라간 변형은 정리
+            postImageService.discardVariants(event.imageUrl(), variants.values());
+            return;
+        }
+
+        postImageService.applyVariants(event.postId(), event.imageUrl(), variants);
+    }
+
+    // post-images/{sha256} -> post-images/variants/w320/{sha256}.jpg
+    private String variantKey(String originalKey, int width) {
+        int slash = originalKey.lastIndexOf('/');
+        String directory = slash < 0 ? "" : originalKey.substring(0, slash + 1);
+        String fileName = originalKey.substring(slash + 1);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot < 0 ? fileName : fileName.substring(0, dot);
+        return directory + "variants/w" + width + "/" + baseName + ".jpg";
+    }
+}
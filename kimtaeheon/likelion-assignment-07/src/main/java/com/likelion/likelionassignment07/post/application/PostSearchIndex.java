@@ -0,0 +1,269 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.post.domain.repository.PostRepository;
+import com.likelion.likelionassignment07.post.domain.repository.PostSearchDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시물 제목/본문 검색용 메모리 역색인 (BM25 순위)
+// - 단어를 2-gram으로 나눠 색인하므로 형태소 분석 없이 한국어 부분 일치도 찾음 (한 글자 단어는 그대로 색인)
+// - 제목에서 나온 gram은 TITLE_BOOST배로 셈
+// - 커밋된 저장/수정/삭제만 반영하고, 시작 시 DB에서 전체를 다시 만듦
+// 인스턴스마다 따로 유지하므로 다른 인스턴스에서 바뀐 게시물은 재시작 전까지 반영되지 않음
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int TITLE_BOOST = 3;
+    // BM25 파라미터 (tf 포화 정도, 문서 길이 보정 정도)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+    private final TaskScheduler taskScheduler;
+    private final int rebuildBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+    // 재구성 중에 들어온 변경 (재구성이 끝나면 새 색인에 다시 적용)
+    private List<PostSearchIndexEvent> pendingDuringRebuild;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           TaskScheduler taskScheduler,
+                           @Value("${post.search.rebuild-batch-size}") int rebuildBatchSize) {
+        this.postRepository = postRepository;
+        this.taskScheduler = taskScheduler;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskScheduler.schedule(this::rebuild, Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostSearchIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            apply(index, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB의 게시물로 색인을 새로 만든 뒤 교체 (만드는 동안에도 기존 색인으로 검색)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        InvertedIndex rebuilt = new InvertedIndex();
+        try {
+            long cursor = 0L;
+            List<PostSearchDocument> documents;
+            do {
+                documents = postRepository.findSearchDocuments(cursor, PageRequest.of(0, rebuildBatchSize));
+                for (PostSearchDocument document : documents) {
+                    rebuilt.put(document.postId(), document.title(), document.contents());
+                    cursor = document.postId();
+                }
+            } while (documents.size() == rebuildBatchSize);
+        } catch (RuntimeException e) {
+            log.error("게시물 검색 색인 재구성 실패, 기존 색인을 유지합니다.", e);
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 읽는 도중 커밋된 변경은 DB 조회 결과보다 최신일 수 있으므로 다시 적용
+            pendingDuringRebuild.forEach(event -> apply(rebuilt, event));
+            pendingDuringRebuild = null;
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시물 검색 색인 재구성 완료: {}건", rebuilt.size());
+    }
+
+    // 점수가 높은 순서대로 게시물 ID 최대 limit개
+    public List<Long> search(String query, int limit) {
+        List<String> queryGrams = grams(query);
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores;
+        lock.readLock().lock();
+        try {
+            scores = index.score(queryGrams);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 limit개만 힙으로 유지 (점수가 같으면 최신 게시물 우선)
+        Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(order);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().getKey());
+        }
+        return result.reversed();
+    }
+
+    private void apply(InvertedIndex target, PostSearchIndexEvent event) {
+        if (event.isRemoved()) {
+            target.remove(event.postId());
+        } else {
+            target.put(event.postId(), event.title(), event.contents());
+        }
+    }
+
+    // 소문자로 바꾸고 글자/숫자가 아닌 문자로 단어를 나눈 뒤, 단어마다 2-gram (한 글자 단어는 그대로)
+    static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        if (text == null) {
+            return grams;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start < GRAM_SIZE) {
+                    grams.add(normalized.substring(start, i));
+                } else {
+                    for (int j = start; j + GRAM_SIZE <= i; j++) {
+                        grams.add(normalized.substring(j, j + GRAM_SIZE));
+                    }
+                }
+                start = -1;
+            }
+        }
+        return grams;
+    }
+
+    // gram -> (게시물 ID -> 가중 tf) 역색인과 게시물별 gram 목록 (수정/삭제 시 기존 항목 제거용)
+    // 동기화는 PostSearchIndex의 잠금으로 처리
+    private static final class InvertedIndex {
+
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private long totalLength;
+
+        private record Document(Map<String, Integer> termFrequencies, int length) {
+        }
+
+        int size() {
+            return documents.size();
+        }
+
+        void put(Long postId, String title, String contents) {
+            remove(postId);
+
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            for (String gram : grams(title)) {
+                termFrequencies.merge(gram, TITLE_BOOST, Integer::sum);
+            }
+            for (String gram : grams(contents)) {
+                termFrequencies.merge(gram, 1, Integer::sum);
+            }
+
+            int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+            termFrequencies.forEach((gram, frequency) ->
+                    postings.computeIfAbsent(gram, key -> new HashMap<>()).put(postId, frequency));
+            documents.put(postId, new Document(termFrequencies, length));
+            totalLength += length;
+        }
+
+        void remove(Long postId) {
+            Document document = documents.remove(postId);
+            if (document == null) {
+                return;
+            }
+
+            for (String gram : document.termFrequencies().keySet()) {
+                Map<Long, Integer> posting = postings.get(gram);
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+            totalLength -= document.length();
+        }
+
+        // BM25: gram마다 idf * tf * (k1 + 1) / (tf + k1 * (1 - b + b * 문서 길이 / 평균 길이))
+        Map<Long, Double> score(List<String> queryGrams) {
+            Map<Long, Double> scores = new HashMap<>();
+            if (documents.isEmpty()) {
+                return scores;
+            }
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            Map<String, Integer> queryFrequencies = new HashMap<>();
+            queryGrams.forEach(gram -> queryFrequencies.merge(gram, 1, Integer::sum));
+
+            queryFrequencies.forEach((gram, queryFrequency) -> {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    return;
+                }
+
+                int documentFrequency = posting.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                posting.forEach((postId, frequency) -> {
+                    int length = documents.get(postId).length();
+                    double norm = K1 * (1 - B + B * length / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + norm) * queryFrequency;
+                    scores.merge(postId, score, Double::sum);
+                });
+            });
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.post.domain.Post;
+
+// 게시물 저장/수정/삭제 트랜잭션이 커밋되면 검색 색인에 반영하도록 알림 (삭제면 title, contents가 null)
+public record PostSearchIndexEvent(Long postId, String title, String contents) {
+
+    public static PostSearchIndexEvent indexed(Post post) {
+        return new PostSearchIndexEvent(post.getPostId(), post.getTitle(), post.getContents());
+    }
+
+    public static PostSearchIndexEvent removed(Long postId) {
+        return new PostSearchIndexEvent(postId, null, null);
+    }
+
+    public boolean isRemoved() {
+        return title == null && contents == null;
+    }
+}
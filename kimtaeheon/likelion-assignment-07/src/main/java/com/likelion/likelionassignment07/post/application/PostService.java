@@ -1,28 +1,54 @@
 package com.likelion.likelionassignment07.post.application;
 
-import com.likelion.likelionassignment07.common.client.TagRecommendationClient;
 import com.likelion.likelionassignment07.common.error.ErrorCode;
 import com.likelion.likelionassignment07.common.exception.BusinessException;
+import com.likelion.likelionassignment07.common.s3.S3DeletionQueue;
 import com.likelion.likelionassignment07.common.s3.S3Uploader;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
 import com.likelion.likelionassignment07.member.domain.Member;
 import com.likelion.likelionassignment07.member.domain.repository.MemberRepository;
+import com.likelion.likelionassignment07.post.api.dto.request.PostBulkSaveRequestDto;
+import com.likelion.likelionassignment07.post.api.dto.request.PostImageFinalizeRequestDto;
 import com.likelion.likelionassignment07.post.api.dto.request.PostSaveRequestDto;
 import com.likelion.likelionassignment07.post.api.dto.request.PostUpdateRequestDto;
+import com.likelion.likelionassignment07.post.api.dto.response.PostBulkSaveResponseDto;
 import com.likelion.likelionassignment07.post.api.dto.response.PostInfoResponseDto;
 import com.likelion.likelionassignment07.post.api.dto.response.PostListResponseDto;
 import com.likelion.likelionassignment07.post.domain.Post;
+import com.likelion.likelionassignment07.post.domain.repository.PostInsert;
 import com.likelion.likelionassignment07.post.domain.repository.PostRepository;
-import com.likelion.likelionassignment07.posttag.domain.PostTag;
 import com.likelion.likelionassignment07.posttag.domain.repository.PostTagRepository;
-import com.likelion.likelionassignment07.tag.domain.Tag;
 import com.likelion.likelionassignment07.tag.domain.repository.TagRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -30,24 +56,52 @@ public class PostService {
 
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
-    private final TagRepository tagRepository;
     private final PostTagRepository postTagRepository;
-    private final TagRecommendationClient tagClient;
+    private final TagRepository tagRepository;
+    private final PostTaggingService postTaggingService;
     private final S3Uploader s3Uploader;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final PostImageService postImageService;
+    private final PostImageUploadService postImageUploadService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTagIndex postTagIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    @Qualifier("postBulkUploadExecutor")
+    private final ThreadPoolTaskExecutor bulkUploadExecutor;
+
+    // 태그 조합 조회 한 번에 쓸 수 있는 태그 수
+    @Value("${post.tag-index.max-terms}")
+    private int maxTagTerms;
+
+    @Value("${post.bulk.max-items}")
+    private int bulkMaxItems;
+
+    @Value("${post.bulk.chunk-size}")
+    private int bulkChunkSize;
 
     // 게시물 저장
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 먼저 수행하고, DB 작업만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostInfoResponseDto postSave(PostSaveRequestDto postSaveRequestDto, MultipartFile imageFile) {
+        String imageUrl = uploadImage(imageFile);
+
+        try {
+            return transactionTemplate.execute(status -> savePost(postSaveRequestDto, imageUrl));
+        } catch (RuntimeException e) {
+            // 게시물이 저장되지 않았으므로 방금 올린 이미지는 정리
+            deleteUploadedImage(imageUrl);
+            throw e;
+        }
+    }
+
+    private PostInfoResponseDto savePost(PostSaveRequestDto postSaveRequestDto, String imageUrl) {
         // 회원 조회
         Member member = memberRepository.findById(postSaveRequestDto.memberId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
                         ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + postSaveRequestDto.memberId()));
 
-        String imageUrl = null;
-        if (imageFile != null && !imageFile.isEmpty()) {
-            imageUrl = s3Uploader.upload(imageFile, "post-images");
-        }
-
         // 게시물 생성
         Post post = Post.builder()
                 .title(postSaveRequestDto.title())
@@ -57,59 +111,312 @@ public class PostService {
                 .build();
 
         postRepository.save(post);
+        afterPostSaved(post);
 
-        // AI 기반 추천 태그 추출 및 등록
-        List<String> tagNames = tagClient.getRecommendedTags(post.getContents());
-        registerTagsToPost(post, tagNames);
+        return PostInfoResponseDto.from(post);
+    }
 
-        // Fetch Join으로 태그 포함된 post 다시 조회
-        // postSave() 이후 바로 반환하면, post.getPostTags()는 LAZY 로딩이라 tag 정보가 초기화되지 않아 tags가 누락된 채 응답될 수 있기 때문
-        Post postWithTags = getPostWithTags(post.getPostId());
+    private void afterPostSaved(Post post) {
+        // 검색 색인은 커밋 이후 반영
+        eventPublisher.publishEvent(PostSearchIndexEvent.indexed(post));
 
-        return PostInfoResponseDto.from(post);
+        // 목록 화면용 축소 이미지는 커밋 이후 비동기로 생성 (응답의 imageVariants는 비어 있음)
+        postImageService.requestVariants(post);
+
+        // AI 기반 추천 태그는 커밋 이후 비동기로 등록 (응답의 tagStatus는 PENDING)
+        postTaggingService.requestTagging(post);
+    }
+
+    // 게시물 일괄 저장 (마이그레이션용)
+    // 회원은 한 번에 조회하고, 이미지는 트랜잭션 밖에서 동시에 올린 뒤, 게시물은 chunk-size개씩 짧은 트랜잭션으로 저장
+    // 잘못된 항목은 실패로 기록하고 나머지는 저장하므로 항목별 결과를 확인해야 함
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostBulkSaveResponseDto postSaveBulk(PostBulkSaveRequestDto postBulkSaveRequestDto, List<MultipartFile> images) {
+        List<PostBulkSaveRequestDto.Item> items = postBulkSaveRequestDto.posts();
+        if (items.size() > bulkMaxItems) {
+            throw new BusinessException(ErrorCode.POST_BULK_TOO_MANY,
+                    ErrorCode.POST_BULK_TOO_MANY.getMessage() + bulkMaxItems);
+        }
+        List<MultipartFile> imageFiles = Objects.requireNonNullElse(images, List.of());
+
+        // 실패한 항목만 먼저 채워지고, 남은 항목은 저장 후 채워짐
+        PostBulkSaveResponseDto.Result[] results = new PostBulkSaveResponseDto.Result[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            String violation = validateBulkItem(items.get(i), imageFiles.size());
+            if (violation != null) {
+                results[i] = PostBulkSaveResponseDto.Result.failed(i, ErrorCode.VALIDATION_EXCEPTION, violation);
+            }
+        }
+
+        // 작성자를 한 번에 조회
+        Set<Long> memberIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] == null) {
+                memberIds.add(items.get(i).memberId());
+            }
+        }
+        Set<Long> existingMemberIds = memberRepository.findAllById(memberIds).stream()
+                .map(Member::getMemberId)
+                .collect(Collectors.toSet());
+        for (int i = 0; i < items.size(); i++) {
+            Long memberId = items.get(i).memberId();
+            if (results[i] == null && !existingMemberIds.contains(memberId)) {
+                results[i] = PostBulkSaveResponseDto.Result.failed(i, ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
+                        ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + memberId);
+            }
+        }
+
+        String[] imageUrls = uploadImages(items, imageFiles, results);
+
+        // chunk-size개씩 저장
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] == null) {
+                pending.add(i);
+            }
+        }
+        for (int from = 0; from < pending.size(); from += bulkChunkSize) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + bulkChunkSize, pending.size()));
+            saveBulkChunk(items, imageUrls, chunk, results);
+        }
+
+        return PostBulkSaveResponseDto.from(List.of(results));
+    }
+
+    // 항목별 유효성 검사 (단건 저장과 같은 제약), 통과하면 null
+    private String validateBulkItem(PostBulkSaveRequestDto.Item item, int imageCount) {
+        Set<ConstraintViolation<PostSaveRequestDto>> violations = validator.validate(item.toSaveRequest());
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (item.imageIndex() != null && (item.imageIndex() < 0 || item.imageIndex() >= imageCount)) {
+            return "imageIndex: 이미지 파트 범위를 벗어났습니다.";
+        }
+        return null;
+    }
+
+    // 저장할 항목의 이미지를 동시에 업로드 (실패한 항목은 results에 기록)
+    private String[] uploadImages(List<PostBulkSaveRequestDto.Item> items, List<MultipartFile> imageFiles,
+                                  PostBulkSaveResponseDto.Result[] results) {
+        Map<Integer, CompletableFuture<String>> uploads = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Integer imageIndex = items.get(i).imageIndex();
+            if (results[i] == null && imageIndex != null) {
+                MultipartFile imageFile = imageFiles.get(imageIndex);
+                uploads.put(i, CompletableFuture.supplyAsync(() -> uploadImage(imageFile), bulkUploadExecutor));
+            }
+        }
+
+        String[] imageUrls = new String[items.size()];
+        uploads.forEach((index, upload) -> {
+            try {
+                imageUrls[index] = upload.join();
+            } catch (CompletionException e) {
+                results[index] = bulkFailure(index, e.getCause());
+            }
+        });
+        return imageUrls;
+    }
+
+    // 한 트랜잭션으로 저장하고, 실패하면 원인 항목을 찾도록 항목마다 다시 저장
+    private void saveBulkChunk(List<PostBulkSaveRequestDto.Item> items, String[] imageUrls,
+                               List<Integer> chunk, PostBulkSaveResponseDto.Result[] results) {
+        try {
+            Map<Integer, Long> postIds = transactionTemplate.execute(status -> saveBulkPosts(items, imageUrls, chunk));
+            postIds.forEach((index, postId) -> results[index] = PostBulkSaveResponseDto.Result.saved(index, postId));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("게시물 일괄 저장 chunk 실패, 항목별로 다시 저장합니다: {}", e.getMessage());
+        }
+
+        for (Integer index : chunk) {
+            try {
+                Map<Integer, Long> postIds = transactionTemplate.execute(
+                        status -> saveBulkPosts(items, imageUrls, List.of(index)));
+                results[index] = PostBulkSaveResponseDto.Result.saved(index, postIds.get(index));
+            } catch (RuntimeException e) {
+                results[index] = bulkFailure(index, e);
+                // 게시물이 저장되지 않았으므로 방금 올린 이미지는 정리
+                deleteUploadedImage(imageUrls[index]);
+            }
+        }
+    }
+
+    // 게시물은 JDBC 배치로 한 번에 INSERT (IDENTITY 키가 저장 순서대로 매겨져 최신순 커서와도 일치)
+    // 엔티티를 영속성 컨텍스트에 올리지 않으므로 커밋 이후 작업도 저장한 값으로 바로 요청
+    private Map<Integer, Long> saveBulkPosts(List<PostBulkSaveRequestDto.Item> items, String[] imageUrls,
+                                             List<Integer> indexes) {
+        LocalDateTime taggingAt = postTaggingService.firstAttemptAt();
+        List<PostInsert> rows = indexes.stream()
+                .map(index -> {
+                    PostBulkSaveRequestDto.Item item = items.get(index);
+                    // 작성자는 앞에서 존재를 확인했으므로 ID만 사용
+                    return new PostInsert(item.title(), item.contents(), item.memberId(), imageUrls[index], taggingAt);
+                })
+                .toList();
+        List<Long> savedIds = postRepository.insertAll(rows);
+
+        Map<Integer, Long> postIds = new LinkedHashMap<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            Integer index = indexes.get(i);
+            Long postId = savedIds.get(i);
+            PostInsert row = rows.get(i);
+            postIds.put(index, postId);
+
+            eventPublisher.publishEvent(new PostSearchIndexEvent(postId, row.title(), row.contents()));
+            postImageService.requestVariants(postId, row.imageUrl());
+        }
+
+        // 추천 태그는 chunk 단위로 요청 (본문이 같은 게시물은 추천 API를 한 번만 호출)
+        postTaggingService.requestTagging(savedIds);
+        return postIds;
     }
 
+    private PostBulkSaveResponseDto.Result bulkFailure(int index, Throwable e) {
+        if (e instanceof BusinessException businessException) {
+            return PostBulkSaveResponseDto.Result.failed(index, businessException.getErrorCode(),
+                    businessException.getCustomMessage());
+        }
+        log.warn("게시물 일괄 저장 항목 {} 실패", index, e);
+        return PostBulkSaveResponseDto.Result.failed(index, ErrorCode.INTERNAL_SERVER_ERROR,
+                ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+    }
 
-    // 특정 작성자가 작성한 게시글 목록을 조회
-    public PostListResponseDto postFindMember(Long memberId) {
+    // 특정 작성자가 작성한 게시글 목록을 최신순으로 조회 (커서 기반)
+    // 작성자는 이미 영속성 컨텍스트에 있고, 페이지의 postTags/tag는 배치 페치로 각각 한 번씩만 조회
+    public PostListResponseDto postFindMember(Long memberId, CursorPageRequest pageRequest) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND_EXCEPTION,
                         ErrorCode.MEMBER_NOT_FOUND_EXCEPTION.getMessage() + memberId));
 
-        List<Post> posts = postRepository.findByMember(member);
-        List<PostInfoResponseDto> postInfoResponseDtos = posts.stream()
+        Slice<Post> posts = postRepository.findByMemberAndPostIdLessThan(
+                member, pageRequest.cursorBefore(), pageRequest.toPageable(Sort.by(Sort.Direction.DESC, "postId")));
+
+        List<Post> content = posts.getContent();
+        Long nextCursor = posts.hasNext() ? content.get(content.size() - 1).getPostId() : null;
+
+        List<PostInfoResponseDto> postInfoResponseDtos = content.stream()
+                .map(PostInfoResponseDto::from)
+                .toList();
+
+        return PostListResponseDto.from(postInfoResponseDtos, nextCursor);
+    }
+
+    // 특정 태그가 달린 게시글 목록을 최신순으로 조회 (커서 기반, post_tag 인덱스로 페이지만 읽음)
+    public PostListResponseDto postFindTag(Long tagId, CursorPageRequest pageRequest) {
+        if (!tagRepository.existsById(tagId)) {
+            throw new BusinessException(ErrorCode.TAG_NOT_FOUND_EXCEPTION,
+                    ErrorCode.TAG_NOT_FOUND_EXCEPTION.getMessage() + tagId);
+        }
+
+        Slice<Post> posts = postTagRepository.findPostsByTagId(
+                tagId, pageRequest.cursorBefore(), pageRequest.toPageable(Sort.unsorted()));
+
+        List<Post> content = posts.getContent();
+        Long nextCursor = posts.hasNext() ? content.get(content.size() - 1).getPostId() : null;
+
+        List<PostInfoResponseDto> postInfoResponseDtos = content.stream()
                 .map(PostInfoResponseDto::from)
                 .toList();
 
-        return PostListResponseDto.from(postInfoResponseDtos);
+        return PostListResponseDto.from(postInfoResponseDtos, nextCursor);
+    }
+
+    // 태그 조합으로 게시글 목록을 최신순으로 조회 (커서 기반)
+    // all은 모두, any는 하나 이상 달리고 none은 달리지 않은 게시물 (태그 비트맵 색인에서 찾은 뒤 게시물은 한 번에 조회)
+    public PostListResponseDto postFindTags(List<Long> all, List<Long> any, List<Long> none,
+                                            CursorPageRequest pageRequest) {
+        List<Long> allTagIds = Objects.requireNonNullElse(all, List.of());
+        List<Long> anyTagIds = Objects.requireNonNullElse(any, List.of());
+        List<Long> noneTagIds = Objects.requireNonNullElse(none, List.of());
+
+        if (allTagIds.isEmpty() && anyTagIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.TAG_QUERY_INVALID,
+                    ErrorCode.TAG_QUERY_INVALID.getMessage() + "all or any is required");
+        }
+        if (allTagIds.size() + anyTagIds.size() + noneTagIds.size() > maxTagTerms) {
+            throw new BusinessException(ErrorCode.TAG_QUERY_INVALID,
+                    ErrorCode.TAG_QUERY_INVALID.getMessage() + "max terms = " + maxTagTerms);
+        }
+
+        // size + 1개를 찾아 다음 페이지 여부를 판단
+        List<Long> postIds = postTagIndex.query(
+                allTagIds, anyTagIds, noneTagIds, pageRequest.cursorBefore(), pageRequest.size() + 1);
+        boolean hasNext = postIds.size() > pageRequest.size();
+        List<Long> pageIds = hasNext ? postIds.subList(0, pageRequest.size()) : postIds;
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+
+        return PostListResponseDto.from(findInfosInOrder(pageIds), nextCursor);
+    }
+
+    // 태그가 많이 겹치는 관련 게시물 (유사도 높은 순서로 최대 size개, 태그 비트맵 색인에서 찾은 뒤 게시물은 한 번에 조회)
+    public PostListResponseDto postFindRelated(Long postId, CursorPageRequest pageRequest) {
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND_EXCEPTION,
+                    ErrorCode.POST_NOT_FOUND_EXCEPTION.getMessage() + postId);
+        }
+
+        List<Long> postIds = postTagIndex.related(postId, pageRequest.size());
+        return PostListResponseDto.from(findInfosInOrder(postIds), null);
+    }
+
+    // 제목/본문 검색 (관련도 높은 순서로 최대 size개, 검색 색인에서 찾은 뒤 게시물은 한 번에 조회)
+    public PostListResponseDto postSearch(String query, CursorPageRequest pageRequest) {
+        List<Long> postIds = postSearchIndex.search(query, pageRequest.size());
+        return PostListResponseDto.from(findInfosInOrder(postIds), null);
+    }
+
+    // 메모리 색인에서 찾은 순서대로 게시물 조회 (색인 반영 전에 삭제된 게시물은 건너뜀)
+    private List<PostInfoResponseDto> findInfosInOrder(List<Long> postIds) {
+        Map<Long, Post> posts = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(PostInfoResponseDto::from)
+                .toList();
     }
 
     // 게시물 수정
-    @Transactional
+    // 새 이미지 업로드는 트랜잭션 밖에서 먼저 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostInfoResponseDto postUpdate(Long postId,
                                           PostUpdateRequestDto postUpdateRequestDto, MultipartFile imageFile) {
-        Post postWithTags = getPostWithTags(postId);
+        String newImageUrl = uploadImage(imageFile);
+
+        try {
+            return transactionTemplate.execute(status -> updatePost(postId, postUpdateRequestDto, newImageUrl));
+        } catch (RuntimeException e) {
+            // 게시물에 반영되지 않았으므로 방금 올린 이미지는 정리
+            deleteUploadedImage(newImageUrl);
+            throw e;
+        }
+    }
 
-        // 기존 이미지 URL
-        String oldImageUrl = postWithTags.getImageUrl();
-        if (imageFile != null && !imageFile.isEmpty()) {
-            String newImageUrl = s3Uploader.upload(imageFile, "post-images");
-            postWithTags.updateImage(newImageUrl);
-            // 새 이미지 업로드 성공 후 기존 이미지 삭제
-            if (oldImageUrl != null && !oldImageUrl.isEmpty()) {
-                s3Uploader.delete(oldImageUrl);
-            }
+    private PostInfoResponseDto updatePost(Long postId, PostUpdateRequestDto postUpdateRequestDto, String newImageUrl) {
+        Post postWithTags = getPostWithTags(postId);
 
+        if (newImageUrl != null) {
+            // 새 이미지 업로드 성공 후 기존 이미지와 변형 삭제 (커밋 이후 삭제 큐에서 처리)
+            postImageService.replaceImage(postWithTags, newImageUrl);
         }
 
+        // 내용이 바뀐 경우에만 추천 태그를 다시 등록 (새 태그가 등록될 때까지 기존 태그 유지)
+        boolean contentsChanged = !Objects.equals(postWithTags.getContents(), postUpdateRequestDto.contents());
+        boolean titleChanged = !Objects.equals(postWithTags.getTitle(), postUpdateRequestDto.title());
         postWithTags.update(postUpdateRequestDto);
 
-        postTagRepository.deleteAllByPost(postWithTags);
-        postWithTags.getPostTags().clear(); // 양방향 관계 유지
+        if (titleChanged || contentsChanged) {
+            eventPublisher.publishEvent(PostSearchIndexEvent.indexed(postWithTags));
+        }
 
-        // 수정된 내용으로 추천 태그 재생성 및 등록
-        List<String> tagNames = tagClient.getRecommendedTags(postWithTags.getContents());
-        registerTagsToPost(postWithTags, tagNames);
+        if (contentsChanged) {
+            postTaggingService.requestTagging(postWithTags);
+        }
 
         return PostInfoResponseDto.from(postWithTags);
     }
@@ -119,11 +426,11 @@ public class PostService {
     public void postDelete(Long postId) {
         Post post = getPost(postId);
 
-        // 게시물 삭제 전 이미지 삭제
-        if (post.getImageUrl() != null && !post.getImageUrl().isEmpty()) {
-            s3Uploader.delete(post.getImageUrl());
-        }
+        // 게시물 이미지와 변형 삭제 예약 (커밋 이후 삭제 큐에서 처리)
+        postImageService.discardImages(post);
+        postTaggingService.releaseTags(post);
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostSearchIndexEvent.removed(postId));
     }
 
     // 게시글의 이미지만 삭제
@@ -139,25 +446,46 @@ public class PostService {
             throw new BusinessException(ErrorCode.IMAGE_NOT_FOUND_EXCEPTION, ErrorCode.IMAGE_NOT_FOUND_EXCEPTION.getMessage());
         }
 
-        // S3에서 이미지만 삭제
-        s3Uploader.delete(currentImageUrl);
-        post.updateImage(null);
+        // S3에서 이미지와 변형만 삭제 (커밋 이후 삭제 큐에서 처리)
+        postImageService.replaceImage(post, null);
 
         Post postWithTags = getPostWithTags(postId);
         return PostInfoResponseDto.from(postWithTags);
     }
 
-    // 게시물 추천 태그 목록 등록 및 PostTag 연관 엔티티 저장
-    private void registerTagsToPost(Post post, List<String> tagNames) {
-        for (String tagName : tagNames) {
-            // 기존 태그가 있다면 사용, 없으면 새로 생성
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(new Tag(tagName)));
+    // 클라이언트가 S3에 직접 올린 이미지를 게시물에 등록
+    // 객체 확인은 트랜잭션 밖에서 먼저 수행하고, 기존 이미지 교체만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostInfoResponseDto attachUploadedImage(Long postId, PostImageFinalizeRequestDto postImageFinalizeRequestDto) {
+        String imageUrl = postImageUploadService.confirm(postImageFinalizeRequestDto);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Post postWithTags = getPostWithTags(postId);
+                postImageService.replaceImage(postWithTags, imageUrl);
+                return PostInfoResponseDto.from(postWithTags);
+            });
+        } catch (RuntimeException e) {
+            // 게시물에 반영되지 않았으므로 업로드된 이미지는 정리
+            deleteUploadedImage(imageUrl);
+            throw e;
+        }
+    }
+
+    // 이미지가 있으면 업로드하고 URL 반환 (없으면 null)
+    private String uploadImage(MultipartFile imageFile) {
+        if (imageFile == null || imageFile.isEmpty()) {
+            return null;
+        }
+        return s3Uploader.upload(imageFile, "post-images");
+    }
 
-            // PostTag 생성 및 연관 관계 추가
-            PostTag postTag = new PostTag(post, tag);
-            post.getPostTags().add(postTag);   // 양방향 매핑 유지
-            postTagRepository.save(postTag);
+    // 저장되지 않은 게시물이 얻은 이미지 참조를 놓음
+    private void deleteUploadedImage(String imageUrl) {
+        try {
+            s3DeletionQueue.release(imageUrl, List.of());
+        } catch (RuntimeException e) {
+            log.warn("저장되지 않은 게시물 이미지 정리 실패: {}", imageUrl, e);
         }
     }
 
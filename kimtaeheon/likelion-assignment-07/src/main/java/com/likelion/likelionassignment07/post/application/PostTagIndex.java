@@ -0,0 +1,543 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.likelionassignment07.posttag.domain.repository.PostTagLink;
+import com.likelion.likelionassignment07.posttag.domain.repository.PostTagRepository;
+import com.likelion.likelionassignment07.tag.application.TagDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// 태그 -> 게시물 ID 비트맵 (Roaring) 메모리 색인
+// 태그 조합 조회(모두 포함/하나 이상 포함/제외)를 post_tag 자기 조인 대신 비트맵 AND/OR/ANDNOT으로 계산
+// 관련 게시물은 게시물별 상위 K개 목록을 미리 계산해 두고, 태그가 바뀐 게시물과 점수를 매긴 후보의 목록을 갱신
+// (점수는 태그를 공유하는 게시물 중 최대 related-max-candidates개만 골라 매김)
+// - 커밋된 태그 교체/게시물 삭제/태그 삭제만 반영하고, 시작 시 DB에서 전체를 다시 만듦
+// 인스턴스마다 따로 유지하므로 다른 인스턴스에서 바뀐 태그는 재시작 전까지 반영되지 않음
+@Slf4j
+@Component
+public class PostTagIndex {
+
+    private final PostTagRepository postTagRepository;
+    private final TaskScheduler taskScheduler;
+    private final int rebuildBatchSize;
+    private final int relatedMaxCandidates;
+    private final int relatedTopK;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TagBitmaps bitmaps = new TagBitmaps();
+    // 재구성 중에 들어온 변경 (재구성이 끝나면 새 색인에 다시 적용)
+    private List<Consumer<TagBitmaps>> pendingDuringRebuild;
+    // 게시물 ID -> 관련 게시물 상위 K개 (목록 안의 항목은 잠금 안에서만 바꾸고 읽음)
+    // 만든 지 related-refresh-after가 지난 목록은 제거되어 다음 조회 때 현재 IDF로 다시 계산
+    private final Cache<Long, RelatedList> relatedLists;
+
+    public PostTagIndex(PostTagRepository postTagRepository,
+                        TaskScheduler taskScheduler,
+                        @Value("${post.tag-index.rebuild-batch-size}") int rebuildBatchSize,
+                        @Value("${post.tag-index.related-max-candidates}") int relatedMaxCandidates,
+                        @Value("${post.tag-index.related-top-k}") int relatedTopK,
+                        @Value("${post.tag-index.related-max-lists}") long relatedMaxLists,
+                        @Value("${post.tag-index.related-refresh-after}") Duration relatedRefreshAfter) {
+        this.postTagRepository = postTagRepository;
+        this.taskScheduler = taskScheduler;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.relatedMaxCandidates = relatedMaxCandidates;
+        this.relatedTopK = relatedTopK;
+        this.relatedLists = Caffeine.newBuilder()
+                .maximumSize(relatedMaxLists)
+                .expireAfterWrite(relatedRefreshAfter)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskScheduler.schedule(this::rebuild, Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostTagsChanged(PostTagsChangedEvent event) {
+        update(target -> target.replace(event.postId(), event.tagIds()));
+        refreshRelated(event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagDeleted(TagDeletedEvent event) {
+        update(target -> target.removeTag(event.tagId()));
+    }
+
+    // DB의 post_tag로 색인을 새로 만든 뒤 교체 (만드는 동안에도 기존 색인으로 조회)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TagBitmaps rebuilt = new TagBitmaps();
+        try {
+            long cursor = 0L;
+            List<PostTagLink> links;
+            do {
+                links = postTagRepository.findLinks(cursor, PageRequest.of(0, rebuildBatchSize));
+                for (PostTagLink link : links) {
+                    rebuilt.add(link.postId(), link.tagId());
+                    cursor = link.id();
+                }
+            } while (links.size() == rebuildBatchSize);
+        } catch (RuntimeException e) {
+            log.error("태그 비트맵 색인 재구성 실패, 기존 색인을 유지합니다.", e);
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 읽는 도중 커밋된 변경은 DB 조회 결과보다 최신일 수 있으므로 다시 적용
+            pendingDuringRebuild.forEach(change -> change.accept(rebuilt));
+            pendingDuringRebuild = null;
+            bitmaps = rebuilt;
+            // 태그 버전은 색인마다 따로 매기므로 이전 색인으로 만든 목록은 버림
+            relatedLists.invalidateAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("태그 비트맵 색인 재구성 완료: 게시물 {}건, 태그 {}개", rebuilt.postCount(), rebuilt.tagCount());
+    }
+
+    // all 태그가 모두 달리고, any 중 하나 이상 달리고, none은 하나도 달리지 않은 게시물 ID
+    // cursor보다 작은 id부터 최신순으로 최대 limit개 (all, any 중 하나는 비어 있지 않아야 함)
+    public List<Long> query(Collection<Long> all, Collection<Long> any, Collection<Long> none,
+                            long cursor, int limit) {
+        Roaring64Bitmap matched;
+        lock.readLock().lock();
+        try {
+            matched = evaluate(all, any, none);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 계산한 비트맵은 복사본이므로 잠금 없이 cursor 미만만 남긴 뒤 큰 id부터 limit개만 읽음
+        keepBelow(matched, cursor);
+        List<Long> postIds = new ArrayList<>(limit);
+        LongIterator iterator = matched.getReverseLongIterator();
+        while (iterator.hasNext() && postIds.size() < limit) {
+            postIds.add(iterator.next());
+        }
+        return postIds;
+    }
+
+    // cursor 이상인 id 제거 (범위 비트맵은 결과의 최소~최대 중 좁은 쪽만 만들어 컨테이너 수를 줄임)
+    private static void keepBelow(Roaring64Bitmap bitmap, long cursor) {
+        if (bitmap.isEmpty() || cursor > bitmap.last()) {
+            return;
+        }
+
+        long first = bitmap.first();
+        long last = bitmap.last();
+        Roaring64Bitmap range = new Roaring64Bitmap();
+        if (cursor <= first) {
+            bitmap.and(range);
+        } else if (last - cursor < cursor - first) {
+            range.addRange(cursor, last + 1);
+            bitmap.andNot(range);
+        } else {
+            range.addRange(first, cursor);
+            bitmap.and(range);
+        }
+    }
+
+    // 태그가 많이 겹치는 게시물 ID를 유사도 높은 순서대로 최대 limit개 (자기 자신 제외, 최대 related-top-k개)
+    // 유사도는 IDF 가중 Jaccard: 공통 태그의 idf 합 / 두 게시물 태그 합집합의 idf 합
+    // 미리 계산한 목록이 있으면 앞에서부터 limit개만 읽음 (그 뒤 태그가 바뀐 게시물은 건너뜀)
+    // 목록이 없거나, 만든 뒤 이 게시물의 태그가 바뀌었거나, 건너뛴 항목 때문에 limit개를 못 채우면 다시 계산
+    public List<Long> related(Long postId, int limit) {
+        TagBitmaps source;
+        RelatedSnapshot snapshot;
+        lock.readLock().lock();
+        try {
+            RelatedList list = relatedLists.getIfPresent(postId);
+            if (list != null && list.ownerVersion() == bitmaps.version(postId)) {
+                List<Long> postIds = list.top(limit, bitmaps::isCurrent);
+                if (postIds.size() == Math.min(limit, list.size())) {
+                    return postIds;
+                }
+            }
+            source = bitmaps;
+            snapshot = source.relatedSnapshot(postId, relatedMaxCandidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 점수는 잠금 밖에서 계산
+        RelatedList computed = RelatedList.of(snapshot, snapshot.similarities(), relatedTopK);
+        lock.readLock().lock();
+        try {
+            if (bitmaps == source && source.version(postId) == snapshot.version()) {
+                relatedLists.put(postId, computed);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return computed.top(limit, entry -> true);
+    }
+
+    // 태그가 바뀐 게시물의 목록을 새로 만들고, 점수를 매긴 후보들의 목록에도 새 점수로 넣음 (유사도는 대칭)
+    // 후보 수가 제한되므로 쓰기 잠금 안의 작업도 O(후보 수 * log K)
+    // 후보에 들지 않은 게시물의 목록에 남은 이 게시물 항목은 태그 버전이 달라 읽을 때 건너뜀
+    private void refreshRelated(Long postId) {
+        TagBitmaps source;
+        RelatedSnapshot snapshot;
+        lock.readLock().lock();
+        try {
+            source = bitmaps;
+            snapshot = source.relatedSnapshot(postId, relatedMaxCandidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, Double> scores = snapshot.similarities();
+        RelatedList computed = RelatedList.of(snapshot, scores, relatedTopK);
+
+        lock.writeLock().lock();
+        try {
+            // 점수를 매기는 동안 다시 바뀌었으면 그 변경이 다시 갱신함
+            if (bitmaps != source || source.version(postId) != snapshot.version()) {
+                return;
+            }
+            if (snapshot.tagIds().isEmpty()) {
+                relatedLists.invalidate(postId);
+                return;
+            }
+
+            relatedLists.put(postId, computed);
+            scores.forEach((other, score) -> {
+                RelatedList list = relatedLists.getIfPresent(other);
+                if (list != null && source.version(other) == snapshot.candidateVersions().get(other)) {
+                    list.offer(new RelatedEntry(postId, score, snapshot.version()));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(Consumer<TagBitmaps> change) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+            change.accept(bitmaps);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인의 비트맵은 바꾸지 않고 새 비트맵에 결과를 계산
+    private Roaring64Bitmap evaluate(Collection<Long> all, Collection<Long> any, Collection<Long> none) {
+        Roaring64Bitmap result = null;
+
+        if (!all.isEmpty()) {
+            // 작은 비트맵부터 교집합을 구하면 중간 결과가 빨리 줄어듦
+            List<Roaring64Bitmap> required = all.stream()
+                    .map(bitmaps::posts)
+                    .sorted(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality))
+                    .toList();
+            result = new Roaring64Bitmap();
+            result.or(required.get(0));
+            for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+                result.and(required.get(i));
+            }
+        }
+
+        if (!any.isEmpty()) {
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            any.forEach(tagId -> union.or(bitmaps.posts(tagId)));
+            if (result == null) {
+                result = union;
+            } else {
+                result.and(union);
+            }
+        }
+
+        if (result == null) {
+            return new Roaring64Bitmap();
+        }
+        for (Long tagId : none) {
+            result.andNot(bitmaps.posts(tagId));
+        }
+        return result;
+    }
+
+    // 관련 게시물 점수 계산용 복사본 (색인과 공유하지 않으므로 잠금 없이 사용)
+    // version과 candidateVersions는 복사할 때의 게시물/후보 태그 버전
+    private record RelatedSnapshot(long version,
+                                   Set<Long> tagIds,
+                                   Map<Long, Set<Long>> candidateTags,
+                                   Map<Long, Long> candidateVersions,
+                                   Map<Long, Long> documentFrequencies,
+                                   int postCount) {
+
+        // 후보별 IDF 가중 Jaccard 유사도
+        Map<Long, Double> similarities() {
+            double weight = weight(tagIds);
+            Map<Long, Double> similarities = new HashMap<>(candidateTags.size());
+            candidateTags.forEach((other, otherTagIds) -> {
+                double intersection = 0;
+                for (Long tagId : otherTagIds) {
+                    if (tagIds.contains(tagId)) {
+                        intersection += idf(tagId);
+                    }
+                }
+                double union = weight + weight(otherTagIds) - intersection;
+                similarities.put(other, intersection / union);
+            });
+            return similarities;
+        }
+
+        // 흔한 태그일수록 작은 가중치: log(1 + 전체 게시물 수 / 태그가 달린 게시물 수)
+        private double idf(Long tagId) {
+            return Math.log1p((double) postCount / documentFrequencies.get(tagId));
+        }
+
+        private double weight(Set<Long> tagIds) {
+            double weight = 0;
+            for (Long tagId : tagIds) {
+                weight += idf(tagId);
+            }
+            return weight;
+        }
+    }
+
+    // 관련 게시물 목록의 항목 (version은 점수를 매길 때의 상대 게시물 태그 버전)
+    private record RelatedEntry(long postId, double score, long version) {
+    }
+
+    // 게시물 하나의 관련 게시물 상위 K개 (유사도 내림차순, 같으면 최신 게시물 먼저)
+    // ownerVersion은 목록을 만들 때의 이 게시물 태그 버전, 동기화는 PostTagIndex의 잠금으로 처리
+    private static final class RelatedList {
+
+        private static final Comparator<RelatedEntry> ORDER = Comparator.comparingDouble(RelatedEntry::score)
+                .thenComparingLong(RelatedEntry::postId)
+                .reversed();
+
+        private final long ownerVersion;
+        private final int capacity;
+        private final List<RelatedEntry> entries;
+
+        private RelatedList(long ownerVersion, int capacity, List<RelatedEntry> entries) {
+            this.ownerVersion = ownerVersion;
+            this.capacity = capacity;
+            this.entries = entries;
+        }
+
+        // 상위 capacity개만 힙으로 유지 (O(후보 수 * log K))
+        static RelatedList of(RelatedSnapshot snapshot, Map<Long, Double> scores, int capacity) {
+            PriorityQueue<RelatedEntry> top = new PriorityQueue<>(ORDER.reversed());
+            scores.forEach((postId, score) -> {
+                top.offer(new RelatedEntry(postId, score, snapshot.candidateVersions().get(postId)));
+                if (top.size() > capacity) {
+                    top.poll();
+                }
+            });
+
+            List<RelatedEntry> entries = new ArrayList<>(top);
+            entries.sort(ORDER);
+            return new RelatedList(snapshot.version(), capacity, entries);
+        }
+
+        long ownerVersion() {
+            return ownerVersion;
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        // 앞에서부터 current인 항목만 최대 limit개
+        List<Long> top(int limit, Predicate<RelatedEntry> current) {
+            List<Long> postIds = new ArrayList<>(Math.min(limit, entries.size()));
+            for (RelatedEntry entry : entries) {
+                if (postIds.size() == limit) {
+                    break;
+                }
+                if (current.test(entry)) {
+                    postIds.add(entry.postId());
+                }
+            }
+            return postIds;
+        }
+
+        // 같은 게시물의 이전 항목을 지우고 새 점수 자리에 넣음 (순위 밖이면 넣지 않음)
+        void offer(RelatedEntry entry) {
+            entries.removeIf(existing -> existing.postId() == entry.postId());
+            int found = Collections.binarySearch(entries, entry, ORDER);
+            int position = found >= 0 ? found : -found - 1;
+            if (position >= capacity) {
+                return;
+            }
+            entries.add(position, entry);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+            }
+        }
+    }
+
+    // 태그 ID -> 게시물 ID 비트맵과 게시물별 태그 목록 (태그 교체/게시물 삭제 시 기존 항목 제거용)
+    // 동기화는 PostTagIndex의 잠금으로 처리
+    private static final class TagBitmaps {
+
+        private static final Roaring64Bitmap EMPTY = new Roaring64Bitmap();
+
+        private final Map<Long, Roaring64Bitmap> postsByTag = new HashMap<>();
+        private final Map<Long, Set<Long>> tagsByPost = new HashMap<>();
+        // 게시물별 태그 버전 (태그가 바뀔 때마다 새 값, 재구성으로 읽은 게시물은 0)
+        private final Map<Long, Long> versionByPost = new HashMap<>();
+        private long lastVersion;
+
+        int postCount() {
+            return tagsByPost.size();
+        }
+
+        int tagCount() {
+            return postsByTag.size();
+        }
+
+        // 태그가 없는 게시물은 -1
+        long version(Long postId) {
+            return tagsByPost.containsKey(postId) ? versionByPost.getOrDefault(postId, 0L) : -1L;
+        }
+
+        // 점수를 매긴 뒤 상대 게시물의 태그가 바뀌지 않았는지
+        boolean isCurrent(RelatedEntry entry) {
+            return version(entry.postId()) == entry.version();
+        }
+
+        // 읽기 전용으로만 사용 (없는 태그는 공유하는 빈 비트맵)
+        Roaring64Bitmap posts(Long tagId) {
+            return postsByTag.getOrDefault(tagId, EMPTY);
+        }
+
+        // 관련 게시물 점수에 필요한 값만 복사 (후보 수를 제한하므로 흔한 태그가 있어도 O(태그 수 * maxCandidates))
+        // 한 비트맵에서 이미 후보인 게시물을 다시 만나는 횟수도 후보 수 이하이므로 태그마다 최대 2 * maxCandidates개만 읽음
+        RelatedSnapshot relatedSnapshot(Long postId, int maxCandidates) {
+            Set<Long> tagIds = tagsByPost.get(postId);
+            if (tagIds == null) {
+                return new RelatedSnapshot(version(postId), Set.of(), Map.of(), Map.of(), Map.of(), tagsByPost.size());
+            }
+
+            // 드문 태그일수록 공유했을 때 의미가 크고 게시물이 적으므로 먼저 채움
+            List<Long> rarestFirst = tagIds.stream()
+                    .sorted(Comparator.comparingLong(tagId -> posts(tagId).getLongCardinality()))
+                    .toList();
+            Map<Long, Set<Long>> candidateTags = new HashMap<>();
+            Map<Long, Long> candidateVersions = new HashMap<>();
+            for (Long tagId : rarestFirst) {
+                LongIterator iterator = posts(tagId).getReverseLongIterator();
+                while (iterator.hasNext() && candidateTags.size() < maxCandidates) {
+                    long other = iterator.next();
+                    if (other != postId && !candidateTags.containsKey(other)) {
+                        candidateTags.put(other, Set.copyOf(tagsByPost.get(other)));
+                        candidateVersions.put(other, version(other));
+                    }
+                }
+                if (candidateTags.size() >= maxCandidates) {
+                    break;
+                }
+            }
+
+            Map<Long, Long> documentFrequencies = new HashMap<>();
+            tagIds.forEach(tagId -> documentFrequencies.put(tagId, posts(tagId).getLongCardinality()));
+            candidateTags.values().forEach(tags -> tags.forEach(tagId ->
+                    documentFrequencies.computeIfAbsent(tagId, key -> posts(key).getLongCardinality())));
+
+            return new RelatedSnapshot(version(postId), Set.copyOf(tagIds), candidateTags, candidateVersions,
+                    documentFrequencies, tagsByPost.size());
+        }
+
+        void add(Long postId, Long tagId) {
+            postsByTag.computeIfAbsent(tagId, key -> new Roaring64Bitmap()).addLong(postId);
+            tagsByPost.computeIfAbsent(postId, key -> new HashSet<>()).add(tagId);
+        }
+
+        void replace(Long postId, Set<Long> tagIds) {
+            remove(postId);
+            tagIds.forEach(tagId -> add(postId, tagId));
+            if (!tagIds.isEmpty()) {
+                versionByPost.put(postId, ++lastVersion);
+            }
+        }
+
+        void remove(Long postId) {
+            versionByPost.remove(postId);
+            Set<Long> tagIds = tagsByPost.remove(postId);
+            if (tagIds == null) {
+                return;
+            }
+
+            for (Long tagId : tagIds) {
+                Roaring64Bitmap posts = postsByTag.get(tagId);
+                posts.removeLong(postId);
+                if (posts.isEmpty()) {
+                    postsByTag.remove(tagId);
+                }
+            }
+        }
+
+        void removeTag(Long tagId) {
+            Roaring64Bitmap posts = postsByTag.remove(tagId);
+            if (posts == null) {
+                return;
+            }
+
+            LongIterator iterator = posts.getLongIterator();
+            while (iterator.hasNext()) {
+                long postId = iterator.next();
+                Set<Long> tagIds = tagsByPost.get(postId);
+                tagIds.remove(tagId);
+                if (tagIds.isEmpty()) {
+                    tagsByPost.remove(postId);
+                    versionByPost.remove(postId);
+                } else {
+                    versionByPost.put(postId, ++lastVersion);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.likelion.likelionassignment07.post.application;
+
+// 게시물 저장/수정 트랜잭션이 커밋된 뒤 추천 태그 등록을 요청하는 이벤트
+public record PostTaggingRequestedEvent(
+        Long postId
+) {
+}
@@ -0,0 +1,165 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.post.domain.Post;
+import com.likelion.likelionassignment07.post.domain.TagStatus;
+import com.likelion.likelionassignment07.post.domain.repository.PostRepository;
+import com.likelion.likelionassignment07.posttag.domain.PostTag;
+import com.likelion.likelionassignment07.posttag.domain.repository.PostTagRepository;
+import com.likelion.likelionassignment07.tag.application.TagService;
+import com.likelion.likelionassignment07.tag.domain.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 게시물 추천 태그의 상태 관리 및 등록 (추천 API 호출은 트랜잭션 밖의 PostTaggingWorker에서 수행)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostTaggingService {
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이벤트 처리 중인 게시물을 스위퍼가 중복으로 가져가지 않도록 두는 유예 시간
+    @Value("${post.tagging.sweep-grace}")
+    private Duration sweepGrace;
+
+    @Value("${post.tagging.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${post.tagging.retry-backoff}")
+    private Duration retryBackoff;
+
+    // 태그 등록을 대기 상태로 바꾸고, 커밋 이후 처리되도록 이벤트 발행
+    @Transactional
+    public void requestTagging(Post post) {
+        post.requestTagging(LocalDateTime.now().plus(sweepGrace));
+        eventPublisher.publishEvent(new PostTaggingRequestedEvent(post.getPostId()));
+    }
+
+    // 대기 상태로 바로 INSERT하는 게시물(일괄 저장)의 첫 시도 시각 (requestTagging과 같은 유예 시간)
+    public LocalDateTime firstAttemptAt() {
+        return LocalDateTime.now().plus(sweepGrace);
+    }
+
+    // 이미 대기 상태로 저장된 게시물들의 태그 등록을 커밋 이후 chunk 단위로 처리하도록 이벤트 발행
+    @Transactional
+    public void requestTagging(List<Long> postIds) {
+        eventPublisher.publishEvent(new PostBulkTaggingRequestedEvent(postIds));
+    }
+
+    // 태그 등록 대기 중인 게시물의 본문 조회 (이미 처리되었거나 삭제된 경우 empty)
+    public Optional<String> findPendingContents(Long postId) {
+        return postRepository.findById(postId)
+                .filter(post -> post.getTagStatus() == TagStatus.PENDING)
+                .map(Post::getContents);
+    }
+
+    // 태그 등록 대기 중인 게시물들의 본문을 한 번에 조회 (게시물 ID -> 본문, 요청 순서 유지)
+    public Map<Long, String> findPendingContents(Collection<Long> postIds) {
+        Map<Long, String> contents = new LinkedHashMap<>();
+        postRepository.findAllById(postIds).stream()
+                .filter(post -> post.getTagStatus() == TagStatus.PENDING)
+                .forEach(post -> contents.put(post.getPostId(), post.getContents()));
+        return contents;
+    }
+
+    // 태깅 시각이 된 게시물 ID 목록 (추천 API 장애 시 재시도 큐 역할)
+    public List<Long> findTaggingDueIds(int limit) {
+        return postRepository.findTaggingDueIds(TagStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    // 추천 결과로 게시물 태그를 교체
+    @Transactional
+    public void applyTags(Long postId, String contents, List<String> tagNames) {
+        Optional<Post> found = postRepository.findByIdWithTags(postId);
+        if (found.isEmpty()) {
+            return;
+        }
+
+        Post post = found.get();
+        // 추천을 요청한 뒤 본문이 다시 수정되었다면 새로 발행된 요청이 처리하도록 건너뜀
+        if (post.getTagStatus() != TagStatus.PENDING || !Objects.equals(post.getContents(), contents)) {
+            return;
+        }
+
+        Set<Long> previousTagIds = tagIds(post);
+        post.getPostTags().clear(); // 기존 태그는 orphanRemoval로 삭제
+        registerTagsToPost(post, tagNames);
+        post.completeTagging();
+
+        // 바뀐 태그만 게시물 수 증감
+        Set<Long> currentTagIds = tagIds(post);
+        tagService.updatePostCounts(difference(currentTagIds, previousTagIds), difference(previousTagIds, currentTagIds));
+
+        // 태그 비트맵 색인은 커밋 이후 반영
+        eventPublisher.publishEvent(new PostTagsChangedEvent(post.getPostId(), currentTagIds));
+    }
+
+    // 추천 실패 시 지수 백오프로 다음 시도 시각을 정하고, 최대 횟수를 넘기면 실패 처리
+    @Transactional
+    public void markRetry(Long postId) {
+        postRepository.findById(postId)
+                .filter(post -> post.getTagStatus() == TagStatus.PENDING)
+                .ifPresent(post -> {
+                    if (post.getTagAttempts() + 1 >= maxAttempts) {
+                        log.error("게시물 {} 태그 추천 재시도 횟수 초과", postId);
+                        post.failTagging();
+                        return;
+                    }
+                    Duration backoff = retryBackoff.multipliedBy(1L << post.getTagAttempts());
+                    post.retryTagging(LocalDateTime.now().plus(backoff));
+                });
+    }
+
+    // 게시물 삭제 전 호출 (PostTag는 게시물과 함께 cascade로 삭제되므로 태그별 게시물 수만 차감)
+    @Transactional
+    public void releaseTags(Post post) {
+        tagService.updatePostCounts(Set.of(), tagIds(post));
+        eventPublisher.publishEvent(PostTagsChangedEvent.removed(post.getPostId()));
+    }
+
+    private Set<Long> tagIds(Post post) {
+        return post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getId())
+                .collect(Collectors.toSet());
+    }
+
+    private Set<Long> difference(Set<Long> left, Set<Long> right) {
+        Set<Long> result = new HashSet<>(left);
+        result.removeAll(right);
+        return result;
+    }
+
+    // 게시물 추천 태그 목록 등록 및 PostTag 연관 엔티티 저장
+    private void registerTagsToPost(Post post, List<String> tagNames) {
+        // 기존 태그 조회와 없는 태그 생성을 태그 목록 단위로 한 번에 처리
+        List<Tag> tags = tagService.findOrCreateTags(tagNames);
+
+        // PostTag 생성 및 연관 관계 추가 (flush 시점에 배치 INSERT)
+        List<PostTag> postTags = tags.stream()
+                .map(tag -> new PostTag(post, tag))
+                .toList();
+        post.getPostTags().addAll(postTags);   // 양방향 매핑 유지
+        postTagRepository.saveAll(postTags);
+    }
+}
@@ -0,0 +1,132 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.tag.application.TagRecommendationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 커밋된 게시물의 추천 태그를 제한된 스레드 풀에서 비동기로 등록
+// 추천 API 호출 동안 DB 커넥션을 잡고 있지 않도록 조회/등록 트랜잭션과 분리
+@Slf4j
+@Component
+public class PostTaggingWorker {
+
+    private final PostTaggingService postTaggingService;
+    private final TagRecommendationService tagRecommendationService;
+    private final ThreadPoolTaskExecutor executor;
+    private final int sweepBatchSize;
+
+    // 같은 게시물이 이벤트와 스위퍼로 동시에 처리되지 않도록 처리 중인 ID를 기록
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PostTaggingWorker(
+            PostTaggingService postTaggingService,
+            TagRecommendationService tagRecommendationService,
+            @Qualifier("postTaggingExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${post.tagging.sweep-batch-size}") int sweepBatchSize
+    ) {
+        this.postTaggingService = postTaggingService;
+        this.tagRecommendationService = tagRecommendationService;
+        this.executor = executor;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaggingRequested(PostTaggingRequestedEvent event) {
+        submit(event.postId());
+    }
+
+    // 일괄 저장된 chunk는 본문이 같은 게시물끼리 묶어 추천 API를 본문마다 한 번만 호출
+    // (추천 API에 일괄 엔드포인트가 없으므로 묶음 하나가 작업 하나)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBulkTaggingRequested(PostBulkTaggingRequestedEvent event) {
+        Map<String, List<Long>> postIdsByContents = new LinkedHashMap<>();
+        postTaggingService.findPendingContents(event.postIds()).forEach((postId, contents) ->
+                postIdsByContents.computeIfAbsent(contents, key -> new ArrayList<>()).add(postId));
+        postIdsByContents.forEach(this::submit);
+    }
+
+    // 큐가 가득 차 거절되었거나 추천에 실패한 게시물을 주기적으로 다시 처리
+    @Scheduled(fixedDelayString = "${post.tagging.sweep-interval-ms}")
+    public void sweep() {
+        int remaining = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        if (remaining <= 0) {
+            return;
+        }
+
+        List<Long> postIds = postTaggingService.findTaggingDueIds(Math.min(sweepBatchSize, remaining));
+        postIds.forEach(this::submit);
+    }
+
+    private void submit(Long postId) {
+        if (!inFlight.add(postId)) {
+            return;
+        }
+        execute(List.of(postId), () -> process(postId));
+    }
+
+    private void submit(String contents, List<Long> postIds) {
+        List<Long> claimed = postIds.stream()
+                .filter(inFlight::add)
+                .toList();
+        if (claimed.isEmpty()) {
+            return;
+        }
+        execute(claimed, () -> process(contents, claimed));
+    }
+
+    private void execute(List<Long> postIds, Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    postIds.forEach(inFlight::remove);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 백프레셔: 큐가 가득 차면 PENDING 상태로 남겨두고 스위퍼가 나중에 다시 시도
+            postIds.forEach(inFlight::remove);
+            log.warn("태깅 큐가 가득 차 게시물 {} 처리를 미룹니다.", postIds);
+        }
+    }
+
+    private void process(Long postId) {
+        postTaggingService.findPendingContents(postId)
+                .ifPresent(contents -> process(contents, List.of(postId)));
+    }
+
+    // 본문이 같은 게시물들에 한 번의 추천 결과를 각각 등록
+    private void process(String contents, List<Long> postIds) {
+        List<String> tagNames;
+        try {
+            tagNames = tagRecommendationService.getRecommendedTags(contents);
+        } catch (RuntimeException e) {
+            log.warn("게시물 {} 태그 추천 실패, 재시도 예정: {}", postIds, e.getMessage());
+            postIds.forEach(postTaggingService::markRetry);
+            return;
+        }
+
+        for (Long postId : postIds) {
+            try {
+                postTaggingService.applyTags(postId, contents, tagNames);
+            } catch (RuntimeException e) {
+                log.warn("게시물 {} 태그 등록 실패, 재시도 예정: {}", postId, e.getMessage());
+                postTaggingService.markRetry(postId);
+            }
+        }
+    }
+}
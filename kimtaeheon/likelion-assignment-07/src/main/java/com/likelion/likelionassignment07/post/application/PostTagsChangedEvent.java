@@ -0,0 +1,11 @@
+package com.likelion.likelionassignment07.post.application;
+
+import java.util.Set;
+
+// 게시물 태그 교체/게시물 삭제 트랜잭션이 커밋되면 태그 비트맵 색인에 반영하도록 알림 (삭제면 tagIds가 비어 있음)
+public record PostTagsChangedEvent(Long postId, Set<Long> tagIds) {
+
+    public static PostTagsChangedEvent removed(Long postId) {
+        return new PostTagsChangedEvent(postId, Set.of());
+    }
+}
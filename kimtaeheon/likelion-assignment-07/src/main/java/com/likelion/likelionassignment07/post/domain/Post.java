@@ -8,13 +8,17 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_post_tag_status", columnList = "tag_status, tag_next_attempt_at"))
 public class Post {
 
     @Id
@@ -35,9 +39,28 @@ public class Post {
     @Column(name = "image_url")
     private String imageUrl;
 
+    // 목록 화면용으로 줄인 이미지 (변형 이름 -> URL), 업로드 이후 비동기로 채워짐
+    @ElementCollection
+    @CollectionTable(name = "post_image_variant", joinColumns = @JoinColumn(name = "post_id"))
+    @MapKeyColumn(name = "variant", length = 20)
+    @Column(name = "image_url", nullable = false)
+    private Map<String, String> imageVariants = new HashMap<>();
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
 
+    // 추천 태그는 커밋 이후 비동기로 등록되므로 진행 상태를 함께 저장
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tag_status", nullable = false, length = 20)
+    private TagStatus tagStatus = TagStatus.PENDING;
+
+    @Column(name = "tag_attempts", nullable = false)
+    private int tagAttempts;
+
+    // 스위퍼가 이 시각 이후에 태깅을 (재)시도
+    @Column(name = "tag_next_attempt_at")
+    private LocalDateTime tagNextAttemptAt;
+
     @Builder
     private Post(String title, String contents, Member member, String imageUrl) {
         this.title = title;
@@ -51,7 +74,35 @@ public class Post {
         this.contents = postUpdateRequestDto.contents();
     }
 
+    // 이미지가 바뀌면 기존 변형은 더 이상 유효하지 않음
     public void updateImage(String imageUrl) {
         this.imageUrl = imageUrl;
+        this.imageVariants.clear();
+    }
+
+    public void updateImageVariants(Map<String, String> imageVariants) {
+        this.imageVariants.clear();
+        this.imageVariants.putAll(imageVariants);
+    }
+
+    public void requestTagging(LocalDateTime nextAttemptAt) {
+        this.tagStatus = TagStatus.PENDING;
+        this.tagAttempts = 0;
+        this.tagNextAttemptAt = nextAttemptAt;
+    }
+
+    public void retryTagging(LocalDateTime nextAttemptAt) {
+        this.tagAttempts++;
+        this.tagNextAttemptAt = nextAttemptAt;
+    }
+
+    public void completeTagging() {
+        this.tagStatus = TagStatus.COMPLETED;
+        this.tagNextAttemptAt = null;
+    }
+
+    public void failTagging() {
+        this.tagStatus = TagStatus.FAILED;
+        this.tagNextAttemptAt = null;
     }
 }
@@ -0,0 +1,7 @@
+package com.likelion.likelionassignment07.post.domain;
+
+public enum TagStatus {
+    PENDING,    // 추천 태그 등록 대기 (재시도 포함)
+    COMPLETED,  // 추천 태그 등록 완료
+    FAILED      // 재시도 횟수 초과
+}
@@ -0,0 +1,9 @@
+package com.likelion.likelionassignment07.post.domain.repository;
+
+import java.util.List;
+
+public interface PostBulkRepository {
+
+    // 게시물을 한 번의 배치 INSERT로 저장하고 생성된 ID를 입력 순서대로 반환 (태그 추천은 대기 상태로 저장)
+    List<Long> insertAll(List<PostInsert> posts);
+}
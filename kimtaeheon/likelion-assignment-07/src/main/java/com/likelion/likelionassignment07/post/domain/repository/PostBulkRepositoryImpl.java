@@ -0,0 +1,68 @@
+package com.likelion.likelionassignment07.post.domain.repository;
+
+import com.likelion.likelionassignment07.post.domain.TagStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostBulkRepositoryImpl implements PostBulkRepository {
+
+    // 태깅 대기 상태까지 INSERT에 담아 게시물마다 UPDATE가 따로 나가지 않게 함
+    private static final String INSERT_SQL =
+            "INSERT INTO post (title, contents, member_id, image_url, tag_status, tag_attempts, tag_next_attempt_at) " +
+                    "VALUES (?, ?, ?, ?, ?, 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<PostInsert> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        // JPA 트랜잭션과 같은 커넥션을 사용하므로 호출한 트랜잭션에 함께 묶임
+        // rewriteBatchedStatements로 multi-row INSERT가 되고, IDENTITY 키는 INSERT 순서대로 돌아옴
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PostInsert post = posts.get(i);
+                        ps.setString(1, post.title());
+                        ps.setString(2, post.contents());
+                        ps.setLong(3, post.memberId());
+                        if (post.imageUrl() == null) {
+                            ps.setNull(4, Types.VARCHAR);
+                        } else {
+                            ps.setString(4, post.imageUrl());
+                        }
+                        ps.setString(5, TagStatus.PENDING.name());
+                        ps.setObject(6, post.tagNextAttemptAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return posts.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> postIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        if (postIds.size() != posts.size()) {
+            // 순서대로 ID를 맞출 수 없으면 저장을 되돌리도록 예외 (호출한 쪽에서 항목별로 다시 저장)
+            throw new IllegalStateException("생성된 게시물 ID 수가 INSERT 건수와 다릅니다: " + postIds.size() + " / " + posts.size());
+        }
+        return postIds;
+    }
+}
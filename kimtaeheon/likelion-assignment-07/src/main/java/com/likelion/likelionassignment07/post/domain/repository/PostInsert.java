@@ -0,0 +1,8 @@
+package com.likelion.likelionassignment07.post.domain.repository;
+
+import java.time.LocalDateTime;
+
+// 일괄 저장 시 JDBC로 INSERT하는 게시물 한 건 (PostBulkRepository.insertAll)
+public record PostInsert(String title, String contents, Long memberId, String imageUrl,
+                         LocalDateTime tagNextAttemptAt) {
+}
@@ -2,16 +2,22 @@ package com.likelion.likelionassignment07.post.domain.repository;
 
 import com.likelion.likelionassignment07.member.domain.Member;
 import com.likelion.likelionassignment07.post.domain.Post;
+import com.likelion.likelionassignment07.post.domain.TagStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostBulkRepository {
 
-    List<Post> findByMember(Member member);
+    // 작성자의 게시물 키셋 페이지: cursor보다 작은 id부터 (정렬은 pageable로 postId 내림차순)
+    // postTags, tag는 default_batch_fetch_size로 페이지 단위 IN 조회
+    Slice<Post> findByMemberAndPostIdLessThan(Member member, Long cursor, Pageable pageable);
 
     @Query("SELECT p FROM Post p " +
             "JOIN FETCH p.member " +
@@ -19,4 +25,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "LEFT JOIN FETCH pt.tag " +
             "WHERE p.postId = :postId")
     Optional<Post> findByIdWithTags(@Param("postId") Long postId);
+
+    // 태깅을 (재)시도할 시각이 지난 게시물 ID 목록
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE p.tagStatus = :status AND p.tagNextAttemptAt <= :now " +
+            "ORDER BY p.tagNextAttemptAt")
+    List<Long> findTaggingDueIds(@Param("status") TagStatus status,
+                                 @Param("now") LocalDateTime now,
+                                 Pageable pageable);
+
+    // 검색 색인 재구성용: cursor보다 큰 id부터 제목/본문만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new com.likelion.likelionassignment07.post.domain.repository.PostSearchDocument(p.postId, p.title, p.contents) " +
+            "FROM Post p WHERE p.postId > :cursor ORDER BY p.postId")
+    List<PostSearchDocument> findSearchDocuments(@Param("cursor") Long cursor, Pageable pageable);
 }
@@ -0,0 +1,5 @@
+package com.likelion.likelionassignment07.post.domain.repository;
+
+// 검색 색인 재구성 시 게시물에서 읽는 값 (PostRepository.findSearchDocuments)
+public record PostSearchDocument(Long postId, String title, String contents) {
+}
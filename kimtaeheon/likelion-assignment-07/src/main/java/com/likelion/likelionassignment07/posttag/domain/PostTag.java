@@ -10,11 +10,16 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 태그별 게시물 목록(최신순 키셋)을 인덱스만으로 찾도록 (tag_id, post_id) 복합 인덱스
+@Table(indexes = @Index(name = "idx_post_tag_tag_post", columnList = "tag_id, post_id"))
 public class PostTag {
 
     @Id
     @Column(name = "post_tag_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 pooled 시퀀스 사용
+    // (MySQL에서는 post_tag_seq 테이블로 에뮬레이션, 50개 단위로 ID를 미리 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_tag_seq_generator")
+    @SequenceGenerator(name = "post_tag_seq_generator", sequenceName = "post_tag_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,5 @@
+package com.likelion.likelionassignment07.posttag.domain.repository;
+
+// 태그 비트맵 재구성용 post_tag 행 (id는 키셋 커서로 사용)
+public record PostTagLink(Long id, Long postId, Long tagId) {
+}
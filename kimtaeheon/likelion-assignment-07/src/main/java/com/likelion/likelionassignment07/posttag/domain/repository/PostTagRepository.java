@@ -2,11 +2,15 @@ package com.likelion.likelionassignment07.posttag.domain.repository;
 
 import com.likelion.likelionassignment07.post.domain.Post;
 import com.likelion.likelionassignment07.posttag.domain.PostTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
 
     // @Modifying: 데이터 변경 쿼리임을 명시
@@ -14,4 +18,16 @@ public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     @Modifying(clearAutomatically = true)
     @Query("delete from PostTag pt where pt.post = :post")
     void deleteAllByPost(@Param("post") Post post);
+
+    // 태그가 달린 게시물 키셋 페이지: cursor보다 작은 id부터 최신순
+    // 조건과 정렬이 모두 post_tag의 (tag_id, post_id) 인덱스 범위 안이므로 정렬 없이 페이지 크기만큼만 읽음
+    @Query("SELECT pt.post FROM PostTag pt " +
+            "WHERE pt.tag.id = :tagId AND pt.post.postId < :cursor " +
+            "ORDER BY pt.post.postId DESC")
+    Slice<Post> findPostsByTagId(@Param("tagId") Long tagId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 태그 비트맵 재구성용: cursor보다 큰 id부터 (게시물 ID, 태그 ID)만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new com.likelion.likelionassignment07.posttag.domain.repository.PostTagLink(pt.id, pt.post.postId, pt.tag.id) " +
+            "FROM PostTag pt WHERE pt.id > :cursor ORDER BY pt.id")
+    List<PostTagLink> findLinks(@Param("cursor") Long cursor, Pageable pageable);
 }
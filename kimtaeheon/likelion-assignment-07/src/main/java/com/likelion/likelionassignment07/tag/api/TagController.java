@@ -0,0 +1,40 @@
+package com.likelion.likelionassignment07.tag.api;
+
+import com.likelion.likelionassignment07.common.error.SuccessCode;
+import com.likelion.likelionassignment07.common.template.ApiResTemplate;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
+import com.likelion.likelionassignment07.tag.api.dto.response.TagInfoResponseDto;
+import com.likelion.likelionassignment07.tag.api.dto.response.TagListResponseDto;
+import com.likelion.likelionassignment07.tag.application.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/tag")
+public class TagController {
+
+    private final TagService tagService;
+
+    // 태그 목록 조회 (?cursor=이전 응답의 nextCursor&size=20)
+    @GetMapping("/all")
+    public ApiResTemplate<TagListResponseDto> getAllTags(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                         @RequestParam(value = "size", required = false) Integer size) {
+        TagListResponseDto tagListResponseDto = tagService.getAllTags(CursorPageRequest.of(cursor, size));
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, tagListResponseDto);
+    }
+
+    // 게시물이 많이 달린 태그 목록 (?size=10)
+    @GetMapping("/popular")
+    public ApiResTemplate<TagListResponseDto> getPopularTags(@RequestParam(value = "size", required = false) Integer size) {
+        TagListResponseDto tagListResponseDto = tagService.getPopularTags(CursorPageRequest.of(null, size).size());
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, tagListResponseDto);
+    }
+
+    // 태그 id를 통해 특정 태그 조회
+    @GetMapping("/{tagId}")
+    public ApiResTemplate<TagInfoResponseDto> getTagById(@PathVariable("tagId") Long tagId) {
+        TagInfoResponseDto tagInfoResponseDto = tagService.getTagById(tagId);
+        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, tagInfoResponseDto);
+    }
+}
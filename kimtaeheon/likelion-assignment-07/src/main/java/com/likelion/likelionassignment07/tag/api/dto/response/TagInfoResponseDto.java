@@ -5,12 +5,14 @@ import lombok.Builder;
 @Builder
 public record TagInfoResponseDto(
         Long id,
-        String name
+        String name,
+        long postCount
 ) {
     public static TagInfoResponseDto from(Tag tag) {
         return TagInfoResponseDto.builder()
                 .id(tag.getId())
                 .name(tag.getName())
+                .postCount(tag.getPostCount())
                 .build();
     }
 }
@@ -5,11 +5,13 @@ import java.util.List;
 
 @Builder
 public record TagListResponseDto(
-        List<TagInfoResponseDto> tags
+        List<TagInfoResponseDto> tags,
+        Long nextCursor // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
 ) {
-    public static TagListResponseDto from(List<TagInfoResponseDto> tags){
+    public static TagListResponseDto from(List<TagInfoResponseDto> tags, Long nextCursor){
         return TagListResponseDto.builder()
                 .tags(tags)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -0,0 +1,5 @@
+package com.likelion.likelionassignment07.tag.application;
+
+// 태그 삭제 트랜잭션이 커밋되면 태그를 참조하는 메모리 색인에서 지우도록 알림
+public record TagDeletedEvent(Long tagId) {
+}
@@ -0,0 +1,75 @@
+package com.likelion.likelionassignment07.tag.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+// 태그 이름 -> 태그 ID 로컬 캐시
+// 게시물 저장 시 매번 발생하던 태그 SELECT를 줄이기 위해 사용 (hit/miss/eviction 지표는 cache.* 메트릭으로 노출)
+@Component
+public class TagIdCache {
+
+    private final Cache<String, Long> cache;
+
+    public TagIdCache(
+            MeterRegistry meterRegistry,
+            @Value("${tag.cache.maximum-size}") long maximumSize,
+            @Value("${tag.cache.expire-after-write}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tagIdCache");
+    }
+
+    // 캐시에 있는 태그 이름만 골라 (정규화된 이름 -> ID)로 반환
+    public Map<String, Long> getAllPresent(Collection<String> names) {
+        return cache.getAllPresent(names.stream().map(TagIdCache::toKey).toList());
+    }
+
+    // 이미 커밋된 태그를 조회한 경우 바로 캐시에 저장
+    public void put(String name, Long id) {
+        cache.put(toKey(name), id);
+    }
+
+    // 현재 트랜잭션에서 생성한 태그는 커밋된 뒤에 캐시에 저장 (롤백된 ID가 캐시에 남지 않도록)
+    public void putAfterCommit(String name, Long id) {
+        runAfterCommit(() -> put(name, id));
+    }
+
+    // 태그 수정/삭제 시 즉시 제거하고, 커밋 전에 다른 요청이 옛 값을 다시 채웠을 수 있으므로 커밋 후 한 번 더 제거
+    public void evict(String name) {
+        cache.invalidate(toKey(name));
+        runAfterCommit(() -> cache.invalidate(toKey(name)));
+    }
+
+    // MySQL 기본 콜레이션과 같이 대소문자를 구분하지 않는 키로 정규화
+    public static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
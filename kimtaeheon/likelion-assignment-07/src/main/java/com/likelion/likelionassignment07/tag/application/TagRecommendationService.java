@@ -0,0 +1,145 @@
+package com.likelion.likelionassignment07.tag.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.likelionassignment07.common.client.TagRecommendationClient;
+import com.likelion.likelionassignment07.tag.domain.TagRecommendation;
+import com.likelion.likelionassignment07.tag.domain.repository.TagRecommendationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 본문 해시 기준으로 AI 추천 태그 결과를 메모이제이션
+// 원격 호출 동안 DB 커넥션을 잡지 않도록 클래스 단위 트랜잭션을 두지 않음
+@Slf4j
+@Service
+public class TagRecommendationService {
+
+    private final TagRecommendationClient tagClient;
+    private final TagRecommendationRepository tagRecommendationRepository;
+    private final boolean persistent;
+
+    private final Cache<String, List<String>> cache;
+    // 같은 본문에 대한 동시 요청은 진행 중인 한 번의 호출 결과를 함께 사용 (single-flight)
+    private final ConcurrentMap<String, CompletableFuture<List<String>>> inFlight = new ConcurrentHashMap<>();
+
+    public TagRecommendationService(
+            TagRecommendationClient tagClient,
+            TagRecommendationRepository tagRecommendationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${tag.recommendation.cache.maximum-size}") long maximumSize,
+            @Value("${tag.recommendation.cache.expire-after-write}") Duration expireAfterWrite,
+            @Value("${tag.recommendation.cache.persistent}") boolean persistent
+    ) {
+        this.tagClient = tagClient;
+        this.tagRecommendationRepository = tagRecommendationRepository;
+        this.persistent = persistent;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tagRecommendationCache");
+    }
+
+    // 게시물 contents 기반 추천 태그 목록 조회 (같은 본문은 원격 API를 한 번만 호출)
+    public List<String> getRecommendedTags(String contents) {
+        String contentsHash = hash(contents);
+
+        List<String> cached = cache.getIfPresent(contentsHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<List<String>> call = new CompletableFuture<>();
+        CompletableFuture<List<String>> running = inFlight.putIfAbsent(contentsHash, call);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 캐시 확인과 호출 등록 사이에 다른 요청이 결과를 저장했을 수 있으므로 다시 확인
+            List<String> tags = Optional.ofNullable(cache.getIfPresent(contentsHash))
+                    .orElseGet(() -> load(contentsHash, contents));
+            call.complete(tags);
+            return tags;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(contentsHash, call);
+        }
+    }
+
+    private List<String> load(String contentsHash, String contents) {
+        if (persistent) {
+            Optional<List<String>> stored = tagRecommendationRepository.findById(contentsHash)
+                    .map(TagRecommendation::getTagNames);
+            if (stored.isPresent()) {
+                cache.put(contentsHash, stored.get());
+                return stored.get();
+            }
+        }
+
+        List<String> tags = List.copyOf(tagClient.getRecommendedTags(contents));
+        // 빈 결과는 일시적인 실패일 수 있으므로 저장하지 않음
+        if (tags.isEmpty()) {
+            return tags;
+        }
+
+        cache.put(contentsHash, tags);
+        if (persistent) {
+            save(contentsHash, tags);
+        }
+        return tags;
+    }
+
+    private void save(String contentsHash, List<String> tags) {
+        try {
+            tagRecommendationRepository.save(new TagRecommendation(contentsHash, tags));
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 같은 본문의 결과를 먼저 저장한 경우
+            log.debug("이미 저장된 추천 태그 결과: {}", contentsHash);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 이외의 제약 위반은 저장되지 않은 것이므로 드러나게 남김 (메모리 캐시에는 이미 있음)
+            log.warn("추천 태그 결과 저장 실패: {}", contentsHash, e);
+        }
+    }
+
+    private List<String> await(CompletableFuture<List<String>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hash(String contents) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(contents.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.likelion.likelionassignment07.tag.application;
 
+import com.likelion.likelionassignment07.common.error.ErrorCode;
+import com.likelion.likelionassignment07.common.exception.BusinessException;
+import com.likelion.likelionassignment07.common.template.CursorPageRequest;
 import com.likelion.likelionassignment07.tag.api.dto.request.TagSaveRequestDto;
 import com.likelion.likelionassignment07.tag.api.dto.request.TagUpdateRequestDto;
 import com.likelion.likelionassignment07.tag.api.dto.response.TagInfoResponseDto;
@@ -7,9 +10,20 @@ import com.likelion.likelionassignment07.tag.api.dto.response.TagListResponseDto
 import com.likelion.likelionassignment07.tag.domain.Tag;
 import com.likelion.likelionassignment07.tag.domain.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,26 +32,100 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagIdCache tagIdCache;
 
-    // 태그 저장
+    // 태그 저장 (같은 이름이 있으면 409)
     @Transactional
     public void createTag(TagSaveRequestDto tagSaveRequestDto){
+        String name = tagSaveRequestDto.name();
+        if (tagRepository.existsByName(name)) {
+            throw duplicatedName(name);
+        }
         Tag tag = Tag.builder()
-                .name(tagSaveRequestDto.name())
+                .name(name)
                 .build();
-        tagRepository.save(tag);
+        flushUnique(() -> tagRepository.saveAndFlush(tag), name);
+        tagIdCache.putAfterCommit(tag.getName(), tag.getId());
     }
 
-    // 태그 전체 조회
-    public TagListResponseDto getAllTags() {
-        List<Tag> tags = tagRepository.findAll();
+    // 태그 이름 목록을 한 번에 조회하고, 없는 태그만 일괄 생성하여 요청 순서대로 반환
+    @Transactional
+    public List<Tag> findOrCreateTags(Collection<String> tagNames) {
+        Set<String> names = tagNames.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        // 캐시에 ID가 있는 태그는 SELECT 없이 참조(프록시)만 사용
+        Map<String, Tag> tagsByName = new HashMap<>();
+        tagIdCache.getAllPresent(names)
+                .forEach((key, tagId) -> tagsByName.put(key, tagRepository.getReferenceById(tagId)));
+
+        // 캐시에 없는 태그는 IN 조회 한 번으로 가져옴
+        List<String> uncachedNames = findMissingNames(names, tagsByName);
+        if (!uncachedNames.isEmpty()) {
+            tagRepository.findByNameIn(uncachedNames).forEach(tag -> {
+                tagsByName.put(TagIdCache.toKey(tag.getName()), tag);
+                tagIdCache.put(tag.getName(), tag.getId());
+            });
+        }
+
+        List<String> missingNames = findMissingNames(names, tagsByName);
+        if (!missingNames.isEmpty()) {
+            // 동시에 같은 태그를 만드는 요청이 있어도 uk_tag_name 제약으로 한 건만 생성됨
+            tagRepository.insertIfAbsent(missingNames);
+            tagRepository.findByNameInForShare(missingNames).forEach(tag -> {
+                tagsByName.put(TagIdCache.toKey(tag.getName()), tag);
+                tagIdCache.putAfterCommit(tag.getName(), tag.getId());
+            });
+        }
+
+        return names.stream()
+                .map(name -> tagsByName.get(TagIdCache.toKey(name)))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    // 태그 목록 조회 (id 순, 커서 기반)
+    public TagListResponseDto getAllTags(CursorPageRequest pageRequest) {
+        Slice<Tag> tags = tagRepository.findByIdGreaterThan(
+                pageRequest.cursorAfter(), pageRequest.toPageable(Sort.by("id")));
+
+        List<Tag> content = tags.getContent();
+        Long nextCursor = tags.hasNext() ? content.get(content.size() - 1).getId() : null;
+
         return TagListResponseDto.from(
-                tags.stream()
+                content.stream()
                         .map(TagInfoResponseDto::from)
-                        .collect(Collectors.toList())
+                        .collect(Collectors.toList()),
+                nextCursor
         );
     }
 
+    // 게시물이 많이 달린 태그 상위 size개 (게시물 수가 같으면 최근 태그 먼저)
+    public TagListResponseDto getPopularTags(int size) {
+        List<TagInfoResponseDto> tags = tagRepository.findByOrderByPostCountDescIdDesc(PageRequest.of(0, size)).stream()
+                .map(TagInfoResponseDto::from)
+                .toList();
+        return TagListResponseDto.from(tags, null);
+    }
+
+    // 게시물에 달린 태그가 바뀐 만큼 태그별 게시물 수 갱신
+    @Transactional
+    public void updatePostCounts(Collection<Long> addedTagIds, Collection<Long> removedTagIds) {
+        if (!addedTagIds.isEmpty()) {
+            tagRepository.addPostCount(addedTagIds, 1);
+        }
+        if (!removedTagIds.isEmpty()) {
+            tagRepository.addPostCount(removedTagIds, -1);
+        }
+    }
+
     // 태그 단건 조회
     public TagInfoResponseDto getTagById(Long tagId) {
         Tag tag = tagRepository.findById(tagId)
@@ -45,12 +133,19 @@ public class TagService {
         return TagInfoResponseDto.from(tag);
     }
 
-    // 태그 수정
+    // 태그 수정 (다른 태그가 이미 쓰는 이름이면 409)
     @Transactional
     public void tagUpdate(Long tagId, TagUpdateRequestDto tagUpdateRequestDto) {
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 태그가 없습니다. id=" + tagId));
+        String name = tagUpdateRequestDto.name();
+        if (tagRepository.existsByNameAndIdNot(name, tagId)) {
+            throw duplicatedName(name);
+        }
+        tagIdCache.evict(tag.getName());
         tag.update(tagUpdateRequestDto);
+        flushUnique(tagRepository::flush, name);
+        tagIdCache.evict(tag.getName());
     }
 
     // 태그 삭제
@@ -60,5 +155,27 @@ public class TagService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 태그가 없습니다. id=" + tagId));
         tag.getPostTags().clear();
         tagRepository.delete(tag);
+        tagIdCache.evict(tag.getName());
+        eventPublisher.publishEvent(new TagDeletedEvent(tagId));
+    }
+
+    // 확인과 저장 사이에 같은 이름이 먼저 커밋되면 uk_tag_name 위반이 나므로 여기서 바로 flush하여 409로 변환
+    private void flushUnique(Runnable flush, String name) {
+        try {
+            flush.run();
+        } catch (DataIntegrityViolationException e) {
+            throw duplicatedName(name);
+        }
+    }
+
+    private BusinessException duplicatedName(String name) {
+        return new BusinessException(ErrorCode.TAG_NAME_DUPLICATED,
+                ErrorCode.TAG_NAME_DUPLICATED.getMessage() + name);
+    }
+
+    private List<String> findMissingNames(Set<String> names, Map<String, Tag> tagsByName) {
+        return names.stream()
+                .filter(name -> !tagsByName.containsKey(TagIdCache.toKey(name)))
+                .toList();
     }
 }
@@ -13,6 +13,8 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"),
+        indexes = @Index(name = "idx_tag_post_count", columnList = "post_count"))
 public class Tag {
 
     @Id
@@ -23,6 +25,10 @@ public class Tag {
     @Column(nullable = false)
     private String name;
 
+    // 이 태그가 달린 게시물 수 (인기 태그 조회용, TagRepository.addPostCount로 원자적으로 증감)
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
     @OneToMany(mappedBy = "tag", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
 
@@ -0,0 +1,66 @@
+package com.likelion.likelionassignment07.tag.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// 게시물 본문 해시별 AI 추천 태그 결과 (재시작 이후에도 같은 본문으로 추천 API를 다시 호출하지 않도록 저장)
+// ID를 직접 지정하므로 Persistable로 새 엔티티임을 알려 save가 SELECT(merge) 없이 INSERT만 실행
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagRecommendation implements Persistable<String> {
+
+    private static final String DELIMITER = "\n";
+
+    // 본문의 SHA-256 (hex)
+    @Id
+    @Column(name = "contents_hash", length = 64)
+    private String contentsHash;
+
+    // 추천 태그 목록 (줄바꿈 구분, 추천 결과 길이에 제한이 없으므로 TEXT 계열 컬럼)
+    @Lob
+    @Column(nullable = false)
+    private String tags;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 생성자로 만든 엔티티만 새 엔티티 (조회/저장 이후에는 false)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public TagRecommendation(String contentsHash, List<String> tagNames) {
+        this.contentsHash = contentsHash;
+        this.tags = String.join(DELIMITER, tagNames);
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String getId() {
+        return contentsHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    public List<String> getTagNames() {
+        return Arrays.stream(tags.split(DELIMITER))
+                .filter(name -> !name.isBlank())
+                .toList();
+    }
+}
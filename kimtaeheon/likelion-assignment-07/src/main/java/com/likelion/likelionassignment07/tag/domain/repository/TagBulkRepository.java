@@ -0,0 +1,9 @@
+package com.likelion.likelionassignment07.tag.domain.repository;
+
+import java.util.Collection;
+
+public interface TagBulkRepository {
+
+    // 존재하지 않는 이름의 태그만 한 번의 배치 INSERT로 생성 (이미 있는 이름은 무시)
+    void insertIfAbsent(Collection<String> names);
+}
@@ -0,0 +1,29 @@
+package com.likelion.likelionassignment07.tag.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TagBulkRepositoryImpl implements TagBulkRepository {
+
+    // tag.name 유니크 제약에 걸리는 행은 아무것도 바꾸지 않고 넘어감
+    // (INSERT IGNORE는 길이 초과 같은 다른 오류까지 경고로 삼키기 때문에 사용하지 않음)
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO tag (name, post_count) VALUES (?, 0) ON DUPLICATE KEY UPDATE name = name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertIfAbsent(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        // JPA 트랜잭션과 같은 커넥션을 사용하므로 호출한 트랜잭션에 함께 묶임
+        List<String> tagNames = List.copyOf(names);
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, tagNames, tagNames.size(),
+                (ps, name) -> ps.setString(1, name));
+    }
+}
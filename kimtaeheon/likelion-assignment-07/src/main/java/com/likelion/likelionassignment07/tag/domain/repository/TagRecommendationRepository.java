@@ -0,0 +1,7 @@
+package com.likelion.likelionassignment07.tag.domain.repository;
+
+import com.likelion.likelionassignment07.tag.domain.TagRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TagRecommendationRepository extends JpaRepository<TagRecommendation, String> {
+}
@@ -1,10 +1,44 @@
 package com.likelion.likelionassignment07.tag.domain.repository;
 
 import com.likelion.likelionassignment07.tag.domain.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagBulkRepository {
 
     Optional<Tag> findByName(String name);
+
+    boolean existsByName(String name);
+
+    boolean existsByNameAndIdNot(String name, Long id);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 키셋 페이지: cursor보다 큰 id부터 (정렬은 pageable로 id 오름차순)
+    Slice<Tag> findByIdGreaterThan(Long cursor, Pageable pageable);
+
+    // 게시물 수가 많은 순서, 같으면 최근 태그 먼저 (idx_tag_post_count 인덱스를 역순으로 읽으므로 GROUP BY 없이 상위 N개만 읽음)
+    // InnoDB 보조 인덱스는 (post_count, tag_id) 순서이므로 두 정렬 방향이 같아야 filesort 없이 인덱스만 역순으로 읽음
+    List<Tag> findByOrderByPostCountDescIdDesc(Pageable pageable);
+
+    // 게시물 수를 DB에서 원자적으로 증감 (동시에 같은 태그가 달려도 갱신이 유실되지 않음)
+    // 영속성 컨텍스트의 Tag는 갱신하지 않지만, postCount를 엔티티로 바꾸지 않으므로 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE Tag t SET t.postCount = t.postCount + :delta WHERE t.id IN :tagIds")
+    int addPostCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
+
+    // 잠금 읽기(FOR SHARE)로 조회
+    // 일반 조회는 트랜잭션 스냅샷을 읽기 때문에, 다른 트랜잭션이 방금 커밋한 태그가 보이지 않을 수 있음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from Tag t where t.name in :names")
+    List<Tag> findByNameInForShare(@Param("names") Collection<String> names);
 }
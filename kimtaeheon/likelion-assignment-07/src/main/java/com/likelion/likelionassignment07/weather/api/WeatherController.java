@@ -6,9 +6,11 @@ import com.likelion.likelionassignment07.weather.api.dto.response.WeatherRespons
 import com.likelion.likelionassignment07.weather.application.WeatherService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
+// 원격 API 호출만 하는 엔드포인트이므로 Mono를 반환 (응답을 기다리는 동안 요청 스레드를 반납하는 비동기 처리)
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/weather")
@@ -22,24 +24,31 @@ public class WeatherController {
      * @return 날씨 정보
      */
     @GetMapping("/current")
-    public ApiResTemplate<WeatherResponseDto> getCurrentWeather(
+    public Mono<ApiResTemplate<WeatherResponseDto>> getCurrentWeather(
             @RequestParam(defaultValue = "Seoul") String city) {
 
-        WeatherResponseDto response = weatherService.getCurrentWeather(city);
-        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, response);
+        return weatherService.getCurrentWeather(city)
+                .map(response -> ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, response));
     }
 
     // 서울 날씨 조회
     @GetMapping("/seoul")
-    public ApiResTemplate<WeatherResponseDto> getSeoulWeather() {
-        WeatherResponseDto response = weatherService.getCurrentWeather("Seoul");
-        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, response);
+    public Mono<ApiResTemplate<WeatherResponseDto>> getSeoulWeather() {
+        return weatherService.getCurrentWeather("Seoul")
+                .map(response -> ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, response));
     }
 
     // 한국 주요 도시들의 날씨 정보 조회
     @GetMapping("/korea-cities")
-    public ApiResTemplate<List<WeatherResponseDto>> getKoreaCitiesWeather() {
-        List<WeatherResponseDto> response = weatherService.getKoreaCitiesWeather();
-        return ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, response);
+    public Mono<ApiResTemplate<List<WeatherResponseDto>>> getKoreaCitiesWeather() {
+        return weatherService.getKoreaCitiesWeather()
+                .map(response -> ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, response));
+    }
+
+    // 여러 도시의 날씨 정보를 동시에 조회 (예: /weather/cities?names=Seoul,Tokyo,Paris)
+    @GetMapping("/cities")
+    public Mono<ApiResTemplate<List<WeatherResponseDto>>> getCitiesWeather(@RequestParam List<String> names) {
+        return weatherService.getCitiesWeather(names)
+                .map(response -> ApiResTemplate.successResponse(SuccessCode.GET_SUCCESS, response));
     }
 }
@@ -1,144 +1,152 @@
 package com.likelion.likelionassignment07.weather.application;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.likelionassignment07.common.client.WeatherClient;
 import com.likelion.likelionassignment07.common.error.ErrorCode;
 import com.likelion.likelionassignment07.common.exception.BusinessException;
 import com.likelion.likelionassignment07.weather.api.dto.response.WeatherResponseDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.time.Duration;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WeatherService {
 
-    private final RestTemplate restTemplate;
-
-    @Value("${weather.api.key}")
-    private String apiKey;
-
-    @Value("${weather.api.url}")
-    private String baseUrl;
-
-    public WeatherResponseDto getCurrentWeather(String city) {
-        try {
-            String url = String.format("%s?q=%s&appid=%s&units=metric&lang=kr",
-                    baseUrl, city, apiKey);
-
-            log.info("날씨 API 호출: {}", url);
-
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            Map<String, Object> data = response.getBody();
-
-            if (data == null) {
-                throw new BusinessException(ErrorCode.WEATHER_API_ERROR, ErrorCode.WEATHER_API_ERROR.getMessage());
-            }
-
-            log.info("날씨 API 응답 성공");
-            return parseWeatherData(data);
-
-        } catch (HttpClientErrorException.Unauthorized e) {
-            log.error("날씨 API 키 인증 실패: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.WEATHER_API_KEY_INVALID, ErrorCode.WEATHER_API_KEY_INVALID.getMessage());
-
-        } catch (HttpClientErrorException.NotFound e) {
-            log.error("도시를 찾을 수 없음: {}", city);
-            throw new BusinessException(ErrorCode.WEATHER_CITY_NOT_FOUND, ErrorCode.WEATHER_CITY_NOT_FOUND.getMessage());
-
-        } catch (RestClientException e) {
-            log.error("날씨 API 호출 중 네트워크 오류", e);
-            throw new BusinessException(ErrorCode.WEATHER_API_ERROR, ErrorCode.WEATHER_API_ERROR.getMessage());
-
-        } catch (BusinessException e) {
-            // 이미 BusinessException인 경우 그대로 던짐
-            throw e;
-
-        } catch (Exception e) {
-            log.error("날씨 정보 조회 중 예상치 못한 오류", e);
-            throw new BusinessException(ErrorCode.WEATHER_API_ERROR, ErrorCode.WEATHER_API_ERROR.getMessage());
-        }
+    private final WeatherClient weatherClient;
+
+    // 도시별 날씨 캐시
+    // - TTL(refreshAfterWrite)이 지나면 이전 값을 바로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+    // - 갱신이 실패하면 max-stale(expireAfterWrite)까지 이전 값을 계속 사용
+    // - 같은 도시에 대한 동시 조회는 한 번의 원격 호출만 수행 (Caffeine 로딩 단위 single-flight)
+    // - 원격 호출은 WebClient future로 로딩하므로 응답을 기다리는 스레드가 없음
+    //   (동기 캐시는 ConcurrentHashMap.compute의 synchronized 안에서 호출하므로 사용하지 않음)
+    private final AsyncLoadingCache<String, WeatherResponseDto> cache;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration hotWindow;
+
+    // refresh-ahead 대상 판단용 (도시별 마지막 조회 시각, 마지막 원격 호출 시각)
+    private final Map<String, Long> lastAccessNanos = new ConcurrentHashMap<>();
+    private final Map<String, Long> loadedAtNanos = new ConcurrentHashMap<>();
+
+    // 한국 주요 도시 목록 (쉼표 구분)
+    @Value("${weather.cities}")
+    private List<String> koreaCities;
+
+    // 도시별 조회 제한 시간
+    @Value("${weather.fan-out.per-call-timeout}")
+    private Duration perCallTimeout;
+
+    // 여러 도시 조회 전체 제한 시간 (초과 시 응답한 도시만 반환)
+    @Value("${weather.fan-out.overall-timeout}")
+    private Duration overallTimeout;
+
+    @Value("${weather.fan-out.max-cities}")
+    private int maxCities;
+
+    public WeatherService(
+            WeatherClient weatherClient,
+            MeterRegistry meterRegistry,
+            @Value("${weather.cache.maximum-size}") long maximumSize,
+            @Value("${weather.cache.ttl}") Duration ttl,
+            @Value("${weather.cache.max-stale}") Duration maxStale,
+            @Value("${weather.cache.refresh-ahead}") Duration refreshAhead,
+            @Value("${weather.cache.hot-window}") Duration hotWindow
+    ) {
+        this.weatherClient = weatherClient;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.hotWindow = hotWindow;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(ttl)
+                .expireAfterWrite(maxStale)
+                .recordStats()
+                .buildAsync((key, executor) -> load(key));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "weatherCache");
     }
 
-    @SuppressWarnings("unchecked")
-    private WeatherResponseDto parseWeatherData(Map<String, Object> data) {
-        try {
-            // main 객체에서 온도, 습도 정보 추출
-            Map<String, Object> main = (Map<String, Object>) data.get("main");
-            if (main == null) {
-                throw new BusinessException(ErrorCode.WEATHER_DATA_PARSING_ERROR, ErrorCode.WEATHER_DATA_PARSING_ERROR.getMessage());
-            }
+    // 특정 도시의 현재 날씨 조회 (캐시 우선)
+    public Mono<WeatherResponseDto> getCurrentWeather(String city) {
+        // 캐시 future는 같은 도시를 조회하는 다른 요청과 공유하므로 구독이 취소되어도 로딩은 취소하지 않음
+        return Mono.defer(() -> Mono.fromFuture(getCurrentWeatherAsync(city), true));
+    }
 
-            double temp = getDoubleValue(main, "temp");
-            double feelsLike = getDoubleValue(main, "feels_like");
-            double humidity = getDoubleValue(main, "humidity");
+    private CompletableFuture<WeatherResponseDto> getCurrentWeatherAsync(String city) {
+        String key = toKey(city);
+        lastAccessNanos.put(key, System.nanoTime());
+        return cache.get(key);
+    }
 
-            // weather 배열에서 날씨 설명 추출
-            List<Map<String, Object>> weather = (List<Map<String, Object>>) data.get("weather");
-            if (weather == null || weather.isEmpty()) {
-                throw new BusinessException(ErrorCode.WEATHER_DATA_PARSING_ERROR, ErrorCode.WEATHER_DATA_PARSING_ERROR.getMessage());
+    // 자주 조회되는 도시는 TTL이 끝나기 전에 미리 갱신하여 조회 요청이 원격 호출을 기다리지 않도록 함
+    @Scheduled(fixedDelayString = "${weather.cache.refresh-interval-ms}")
+    public void refreshHotCities() {
+        long now = System.nanoTime();
+        loadedAtNanos.keySet().retainAll(cache.asMap().keySet());
+        lastAccessNanos.keySet().retainAll(cache.asMap().keySet());
+
+        loadedAtNanos.forEach((key, loadedAt) -> {
+            long lastAccess = lastAccessNanos.getOrDefault(key, 0L);
+            boolean hot = now - lastAccess <= hotWindow.toNanos();
+            boolean expiringSoon = now - loadedAt >= ttl.minus(refreshAhead).toNanos();
+            if (hot && expiringSoon) {
+                cache.synchronous().refresh(key);
             }
-
-            String description = (String) weather.get(0).get("description");
-            String mainWeather = (String) weather.get(0).get("main");
-
-            // wind 객체에서 풍속 정보 추출
-            Map<String, Object> wind = (Map<String, Object>) data.get("wind");
-            double windSpeed = wind != null ? getDoubleValue(wind, "speed") : 0.0;
-
-            // 도시명과 국가 정보
-            String cityName = (String) data.get("name");
-            Map<String, Object> sys = (Map<String, Object>) data.get("sys");
-            String country = sys != null ? (String) sys.get("country") : "";
-
-            return new WeatherResponseDto(
-                    cityName, temp, feelsLike, humidity,
-                    description, mainWeather, windSpeed, country
-            );
-
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("날씨 데이터 파싱 실패", e);
-            throw new BusinessException(ErrorCode.WEATHER_DATA_PARSING_ERROR, ErrorCode.WEATHER_DATA_PARSING_ERROR.getMessage());
-        }
+        });
     }
 
-    public List<WeatherResponseDto> getKoreaCitiesWeather() {
-        String[] cities = {"Seoul", "Busan", "Incheon", "Daegu", "Daejeon", "Gwangju"};
+    private CompletableFuture<WeatherResponseDto> load(String key) {
+        return weatherClient.getCurrentWeather(key)
+                .doOnNext(weather -> loadedAtNanos.put(key, System.nanoTime()))
+                .toFuture();
+    }
 
-        return List.of(cities).stream()
-                .map(this::tryGetWeather)         // Optional<WeatherResponseDto>
-                .filter(Optional::isPresent)      // 값이 있는 경우만 필터링
-                .map(Optional::get)               // Optional에서 실제 값 꺼내기
-                .toList();
+    private String toKey(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
     }
 
-    private Optional<WeatherResponseDto> tryGetWeather(String city) {
-        try {
-            return Optional.of(getCurrentWeather(city));
-        } catch (BusinessException e) {
-            log.warn("도시 {} 날씨 조회 실패: {}", city, e.getMessage());
-            return Optional.empty();
-        }
+    public Mono<List<WeatherResponseDto>> getKoreaCitiesWeather() {
+        return getCitiesWeather(koreaCities);
     }
 
-    /**
-     * Map에서 double 값 안전하게 가져오기
-     */
-    private double getDoubleValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).doubleValue();
+    // 여러 도시의 날씨를 동시에 조회 (제한 시간 안에 응답한 도시만 요청 순서대로 반환)
+    // 도시마다 스레드를 잡지 않고 캐시 future를 함께 기다림
+    public Mono<List<WeatherResponseDto>> getCitiesWeather(List<String> cities) {
+        if (cities.size() > maxCities) {
+            throw new BusinessException(ErrorCode.WEATHER_TOO_MANY_CITIES,
+                    ErrorCode.WEATHER_TOO_MANY_CITIES.getMessage() + maxCities);
         }
-        return 0.0;
+
+        return Flux.range(0, cities.size())
+                .flatMap(index -> getCurrentWeather(cities.get(index))
+                        .timeout(perCallTimeout)
+                        .map(weather -> Tuples.of(index, weather))
+                        .onErrorResume(e -> {
+                            log.warn("도시 {} 날씨 조회 실패 또는 시간 초과: {}", cities.get(index), e.toString());
+                            return Mono.empty();
+                        }))
+                // 전체 제한 시간이 지나면 그때까지 응답한 도시만 사용
+                .take(overallTimeout)
+                .collectSortedList(Comparator.comparing(Tuple2::getT1))
+                .map(results -> results.stream()
+                        .map(Tuple2::getT2)
+                        .toList());
     }
 }
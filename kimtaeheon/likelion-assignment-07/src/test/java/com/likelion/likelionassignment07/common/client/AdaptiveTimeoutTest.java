@@ -0,0 +1,70 @@
+package com.likelion.likelionassignment07.common.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveTimeoutTest {
+
+    private static final Duration FLOOR = Duration.ofMillis(500);
+    private static final Duration CEILING = Duration.ofSeconds(10);
+
+    private final AdaptiveTimeout timeout = new AdaptiveTimeout(FLOOR, CEILING, 100, 20, 0.99, 2.0);
+
+    @Test
+    void 표본이_부족하면_상한을_쓴다() {
+        record(19, Duration.ofMillis(100));
+
+        assertThat(timeout.current()).isEqualTo(CEILING);
+    }
+
+    @Test
+    void 최근_응답_시간의_percentile에_배수를_곱한다() {
+        record(99, Duration.ofMillis(300));
+        record(1, Duration.ofMillis(1200));
+
+        // 100개 중 99번째 값(300ms) * 2
+        assertThat(timeout.current()).isEqualTo(Duration.ofMillis(600));
+    }
+
+    @Test
+    void 하한과_상한_사이로_제한한다() {
+        record(100, Duration.ofMillis(50));
+        assertThat(timeout.current()).isEqualTo(FLOOR);
+
+        record(100, Duration.ofSeconds(8));
+        assertThat(timeout.current()).isEqualTo(CEILING);
+    }
+
+    @Test
+    void 타임아웃으로_끝난_호출이_늘면_타임아웃도_늘어난다() {
+        record(100, Duration.ofMillis(400));
+        Duration limit = timeout.current();
+        assertThat(limit).isEqualTo(Duration.ofMillis(800));
+
+        for (int i = 0; i < 5; i++) {
+            timeout.onFailure(limit, limit);
+        }
+
+        assertThat(timeout.current()).isEqualTo(Duration.ofMillis(1600));
+    }
+
+    @Test
+    void 바로_실패한_호출은_기록하지_않는다() {
+        record(100, Duration.ofMillis(400));
+
+        for (int i = 0; i < 50; i++) {
+            timeout.onFailure(timeout.current(), Duration.ofMillis(5));
+        }
+
+        assertThat(timeout.current()).isEqualTo(Duration.ofMillis(800));
+    }
+
+    private void record(int times, Duration elapsed) {
+        for (int i = 0; i < times; i++) {
+            timeout.onSuccess(elapsed);
+        }
+    }
+}
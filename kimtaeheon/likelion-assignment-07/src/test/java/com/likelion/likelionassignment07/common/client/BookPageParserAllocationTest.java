@@ -0,0 +1,126 @@
+package com.likelion.likelionassignment07.common.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.likelionassignment07.book.api.dto.response.BookResponseDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 도서 API 응답 한 페이지를 Map 트리로 읽는 방식과 BookPageParser 스트리밍 방식의 할당량 비교
+class BookPageParserAllocationTest {
+
+    private static final int ITEM_COUNT = 5_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 10;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static byte[] payload;
+
+    @BeforeAll
+    static void setUp() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},")
+                .append("\"body\":{\"items\":{\"item\":[");
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"title\":\"Book Title ").append(i)
+                    .append("\",\"alternativeTitle\":\"도서 제목 ").append(i)
+                    .append("\",\"author\":\"저자 ").append(i)
+                    .append("\",\"url\":\"https://example.com/books/").append(i)
+                    .append("\",\"publisher\":\"출판사\",\"issuedDate\":\"2024-01-01\",\"subjectCategory\":\"문학\"}");
+        }
+        json.append("]},\"numOfRows\":").append(ITEM_COUNT)
+                .append(",\"pageNo\":1,\"totalCount\":\"").append(ITEM_COUNT).append("\"}}}");
+        payload = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 스트리밍_파서는_Map_트리와_같은_결과를_낸다() throws Exception {
+        List<BookResponseDto> books = new ArrayList<>(ITEM_COUNT);
+        int totalCount;
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            totalCount = BookPageParser.parse(parser, books::add);
+        }
+
+        assertThat(totalCount).isEqualTo(ITEM_COUNT);
+        assertThat(books).hasSize(ITEM_COUNT)
+                .containsExactlyElementsOf(parseTree());
+        assertThat(books.get(0)).isEqualTo(new BookResponseDto(
+                "Book Title 0", "도서 제목 0", "저자 0", "https://example.com/books/0"));
+    }
+
+    @Test
+    void 스트리밍_파서는_Map_트리보다_적게_할당한다() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            parseTree();
+            parseStreaming();
+        }
+
+        long tree = Long.MAX_VALUE;
+        long streaming = Long.MAX_VALUE;
+        List<BookResponseDto> treeBooks = List.of();
+        List<BookResponseDto> streamingBooks = List.of();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            treeBooks = parseTree();
+            long between = threadMXBean.getThreadAllocatedBytes(threadId);
+            streamingBooks = parseStreaming();
+            long after = threadMXBean.getThreadAllocatedBytes(threadId);
+
+            tree = Math.min(tree, between - before);
+            streaming = Math.min(streaming, after - between);
+        }
+
+        // 측정한 두 방식이 같은 결과를 냈는지 확인 (할당량만 줄고 결과가 달라지는 경우 방지)
+        assertThat(streamingBooks).hasSize(ITEM_COUNT).containsExactlyElementsOf(treeBooks);
+        assertThat(streaming)
+                .as("items=%d, Map 트리=%,d bytes, 스트리밍=%,d bytes", ITEM_COUNT, tree, streaming)
+                .isLessThan(tree);
+    }
+
+    private List<BookResponseDto> parseStreaming() throws Exception {
+        List<BookResponseDto> books = new ArrayList<>(ITEM_COUNT);
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            BookPageParser.parse(parser, books::add);
+        }
+        return books;
+    }
+
+    // 기존 BookSearchClient 방식: 응답 전체를 Map 트리로 읽은 뒤 캐스팅하며 내려감
+    @SuppressWarnings("unchecked")
+    private List<BookResponseDto> parseTree() throws Exception {
+        Map<String, Object> responseMap = objectMapper.readValue(payload, Map.class);
+        Map<String, Object> response = (Map<String, Object>) responseMap.get("response");
+        Map<String, Object> body = (Map<String, Object>) response.get("body");
+        Map<String, Object> items = (Map<String, Object>) body.get("items");
+        List<Map<String, Object>> itemList = (List<Map<String, Object>>) items.get("item");
+
+        List<BookResponseDto> books = new ArrayList<>(ITEM_COUNT);
+        for (Map<String, Object> item : itemList) {
+            books.add(new BookResponseDto(
+                    (String) item.getOrDefault("title", ""),
+                    (String) item.getOrDefault("alternativeTitle", ""),
+                    (String) item.getOrDefault("author", ""),
+                    (String) item.getOrDefault("url", "")
+            ));
+        }
+        return books;
+    }
+}
@@ -0,0 +1,80 @@
+package com.likelion.likelionassignment07.common.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageResizerTest {
+
+    private static final List<Integer> WIDTHS = List.of(320, 640, 1280);
+
+    private ImageResizer imageResizer;
+
+    @BeforeEach
+    void setUp() {
+        imageResizer = new ImageResizer();
+        ReflectionTestUtils.setField(imageResizer, "maxPixels", 100_000_000L);
+    }
+
+    @Test
+    void 원본보다_작은_너비만_큰_너비부터_만든다() throws IOException {
+        Map<Integer, byte[]> variants = imageResizer.resize(png(1000, 500), WIDTHS);
+
+        assertThat(variants.keySet()).containsExactly(640, 320);
+    }
+
+    @Test
+    void 변형은_원본_비율을_유지한_JPEG다() throws IOException {
+        Map<Integer, byte[]> variants = imageResizer.resize(png(1000, 500), WIDTHS);
+
+        BufferedImage large = ImageIO.read(new ByteArrayInputStream(variants.get(640)));
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(variants.get(320)));
+        assertThat(large.getWidth()).isEqualTo(640);
+        assertThat(large.getHeight()).isEqualTo(320);
+        assertThat(small.getWidth()).isEqualTo(320);
+        assertThat(small.getHeight()).isEqualTo(160);
+        // JPEG SOI 마커
+        assertThat(variants.get(320)).startsWith((byte) 0xFF, (byte) 0xD8);
+    }
+
+    @Test
+    void 모든_너비보다_작은_원본은_변형을_만들지_않는다() throws IOException {
+        assertThat(imageResizer.resize(png(300, 200), WIDTHS)).isEmpty();
+    }
+
+    @Test
+    void 최대_픽셀_수를_넘는_이미지는_디코딩하지_않는다() {
+        ReflectionTestUtils.setField(imageResizer, "maxPixels", 1000L * 500 - 1);
+
+        assertThatThrownBy(() -> imageResizer.resize(png(1000, 500), WIDTHS))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("1000x500");
+    }
+
+    @Test
+    void 이미지가_아니면_실패한다() {
+        ByteArrayInputStream notImage = new ByteArrayInputStream("not an image".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> imageResizer.resize(notImage, WIDTHS))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static ByteArrayInputStream png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,126 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.common.image.ImageResizer;
+import com.likelion.likelionassignment07.common.s3.S3Uploader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// S3Uploader를 메모리 저장소로 바꿔 변형 생성 흐름(원본 읽기 -> 축소 -> 업로드 -> 반영)을 확인
+class PostImageWorkerTest {
+
+    private static final String BUCKET_URL = "https://bucket.s3.amazonaws.com/";
+    private static final String ORIGINAL_KEY = "post-images/abc123";
+    private static final String ORIGINAL_URL = BUCKET_URL + ORIGINAL_KEY;
+
+    private final Map<String, byte[]> objects = new LinkedHashMap<>();
+    private final List<String> uploadedKeys = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<Collection<String>> discarded = ArgumentCaptor.forClass(Collection.class);
+
+    private PostImageService postImageService;
+    private S3Uploader s3Uploader;
+    private PostImageWorker postImageWorker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        postImageService = mock(PostImageService.class);
+        s3Uploader = mock(S3Uploader.class);
+
+        objects.put(ORIGINAL_KEY, png(1000, 500));
+        when(s3Uploader.extractKeyFromUrl(anyString()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).substring(BUCKET_URL.length()));
+        when(s3Uploader.openStream(anyString()))
+                .thenAnswer(invocation -> new ByteArrayInputStream(
+                        objects.get(invocation.<String>getArgument(0).substring(BUCKET_URL.length()))));
+        when(s3Uploader.uploadBytes(anyString(), any(byte[].class), anyString()))
+                .thenAnswer(invocation -> {
+                    String key = invocation.getArgument(0);
+                    objects.put(key, invocation.getArgument(1));
+                    uploadedKeys.add(key);
+                    return BUCKET_URL + key;
+                });
+
+        ImageResizer imageResizer = new ImageResizer();
+        ReflectionTestUtils.setField(imageResizer, "maxPixels", 100_000_000L);
+
+        postImageWorker = new PostImageWorker(postImageService, s3Uploader, imageResizer,
+                new DirectExecutor(), List.of(320, 640, 1280));
+    }
+
+    @Test
+    void 원본보다_작은_변형을_올리고_게시물에_반영한다() {
+        postImageWorker.onImageUploaded(new PostImageUploadedEvent(1L, ORIGINAL_URL));
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("w640", BUCKET_URL + "post-images/variants/w640/abc123.jpg");
+        expected.put("w320", BUCKET_URL + "post-images/variants/w320/abc123.jpg");
+        verify(postImageService).applyVariants(1L, ORIGINAL_URL, expected);
+        assertThat(uploadedKeys).containsExactly(
+                "post-images/variants/w640/abc123.jpg",
+                "post-images/variants/w320/abc123.jpg");
+    }
+
+    @Test
+    void 업로드_중_실패하면_올라간_변형만_정리하고_반영하지_않는다() {
+        doThrow(new IllegalStateException("S3 unavailable"))
+                .when(s3Uploader).uploadBytes(eq("post-images/variants/w320/abc123.jpg"), any(byte[].class), anyString());
+
+        postImageWorker.onImageUploaded(new PostImageUploadedEvent(1L, ORIGINAL_URL));
+
+        verify(postImageService).discardVariants(eq(ORIGINAL_URL), discarded.capture());
+        assertThat(discarded.getValue()).containsExactly(BUCKET_URL + "post-images/variants/w640/abc123.jpg");
+        verify(postImageService, never()).applyVariants(any(), any(), any());
+    }
+
+    @Test
+    void 이미지가_아니면_변형_없이_원본을_사용한다() {
+        objects.put(ORIGINAL_KEY, "not an image".getBytes());
+
+        postImageWorker.onImageUploaded(new PostImageUploadedEvent(1L, ORIGINAL_URL));
+
+        assertThat(uploadedKeys).isEmpty();
+        verify(postImageService).discardVariants(eq(ORIGINAL_URL), discarded.capture());
+        assertThat(discarded.getValue()).isEmpty();
+        verify(postImageService, never()).applyVariants(any(), any(), any());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    // 제출한 작업을 호출한 스레드에서 바로 실행
+    private static class DirectExecutor extends ThreadPoolTaskExecutor {
+
+        @Override
+        public void execute(Runnable task) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.likelion.likelionassignment07.post.application;
+
+import com.likelion.likelionassignment07.posttag.domain.repository.PostTagRepository;
+import com.likelion.likelionassignment07.tag.application.TagDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostTagIndexTest {
+
+    private PostTagIndex postTagIndex;
+
+    @BeforeEach
+    void setUp() {
+        postTagIndex = new PostTagIndex(mock(PostTagRepository.class), mock(TaskScheduler.class),
+                1000, 2000, 100, 1000, Duration.ofHours(1));
+        // 태그 1은 흔하고(4개), 2와 3은 드묾
+        tag(1L, 1L, 2L);
+        tag(2L, 1L, 2L);
+        tag(3L, 1L, 3L);
+        tag(4L, 1L);
+    }
+
+    @Test
+    void 드문_태그를_많이_공유할수록_먼저_나온다() {
+        assertThat(postTagIndex.related(1L, 10)).containsExactly(2L, 4L, 3L);
+    }
+
+    @Test
+    void 나중에_태그된_게시물도_이미_계산된_목록에_들어간다() {
+        assertThat(postTagIndex.related(1L, 10)).containsExactly(2L, 4L, 3L);
+
+        tag(5L, 1L, 2L);
+
+        assertThat(postTagIndex.related(1L, 10)).containsExactly(5L, 2L, 4L, 3L);
+    }
+
+    @Test
+    void 태그가_바뀌거나_삭제된_게시물은_목록에서_빠진다() {
+        assertThat(postTagIndex.related(1L, 10)).containsExactly(2L, 4L, 3L);
+
+        tag(2L, 9L);
+        postTagIndex.onPostTagsChanged(PostTagsChangedEvent.removed(4L));
+
+        assertThat(postTagIndex.related(1L, 10)).containsExactly(3L);
+    }
+
+    @Test
+    void 태그가_삭제되면_다시_계산한다() {
+        assertThat(postTagIndex.related(3L, 10)).containsExactly(4L, 2L, 1L);
+
+        postTagIndex.onTagDeleted(new TagDeletedEvent(1L));
+
+        assertThat(postTagIndex.related(3L, 10)).isEmpty();
+        assertThat(postTagIndex.related(1L, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void limit개만_반환한다() {
+        assertThat(postTagIndex.related(1L, 2)).containsExactly(2L, 4L);
+    }
+
+    private void tag(Long postId, Long... tagIds) {
+        postTagIndex.onPostTagsChanged(new PostTagsChangedEvent(postId, Set.copyOf(List.of(tagIds))));
+    }
+}